@@ -69,30 +69,46 @@ document.addEventListener('DOMContentLoaded', () => {
         return await response.json();
     }
 
+    // Start of the "all time" range for report endpoints (they default to the last 30 days)
+    const ALL_TIME_START = '2000-01-01';
+    const LOW_STOCK_THRESHOLD = 10;
+    const RECENT_TRANSACTIONS = 8;
+
+    // Local calendar date as yyyy-MM-dd
+    function isoDate(date) {
+        const month = String(date.getMonth() + 1).padStart(2, '0');
+        const day = String(date.getDate()).padStart(2, '0');
+        return `${date.getFullYear()}-${month}-${day}`;
+    }
+
     // --- LOAD ALL DASHBOARD DATA ---
+    // Figures come from the report endpoints; only one page of sales is loaded
     async function loadDashboardData() {
         try {
+            const today = isoDate(new Date());
+
             // Fetch all required data in parallel
-            const [allProducts, allSales] = await Promise.all([
-                fetchFromApi('/products'),
-                fetchFromApi('/sales')
-            ]);
+            const [todaySummary, allTimeSummary, stockStatus, lowStockProducts, performance, recentSales] =
+                await Promise.all([
+                    fetchFromApi(`/reports/summary?startDate=${today}&endDate=${today}`),
+                    fetchFromApi(`/reports/summary?startDate=${ALL_TIME_START}`),
+                    fetchFromApi('/reports/stock-status'),
+                    fetchFromApi(`/products/low-stock?threshold=${LOW_STOCK_THRESHOLD}`),
+                    fetchFromApi(`/reports/product-performance?startDate=${ALL_TIME_START}`),
+                    fetchFromApi(`/sales?limit=${RECENT_TRANSACTIONS}`)
+                ]);
 
             // Update metrics cards
-            updateMetricsCards(allProducts, allSales);
+            updateMetricsCards(todaySummary, allTimeSummary, stockStatus);
 
             // Render sections
-            renderLowStockAlerts(allProducts);
-            renderRecentTransactions(allSales);
-            renderTopProducts(allSales, allProducts);
-            renderStockStatus(allProducts);
+            renderLowStockAlerts(lowStockProducts);
+            renderRecentTransactions(recentSales.items);
+            renderTopProducts(performance);
+            renderStockStatus(stockStatus);
 
             // Update notification count
-            const lowStockCount = allProducts.filter(p => {
-                const stock = p.currentStock || 0;
-                return stock > 0 && stock < 10;
-            }).length;
-            document.getElementById('notification-count').textContent = lowStockCount;
+            document.getElementById('notification-count').textContent = stockStatus.lowStock;
 
         } catch (error) {
             console.error('Failed to load dashboard data:', error);
@@ -101,37 +117,28 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     // --- UPDATE METRIC CARDS ---
-    function updateMetricsCards(products, sales) {
+    function updateMetricsCards(todaySummary, allTimeSummary, stockStatus) {
         // 1. Total Products
-        animateValue('total-products', 0, products.length, 1500);
+        animateValue('total-products', 0, allTimeSummary.totalProducts || 0, 1500);
         document.getElementById('new-products').textContent = `+0 this week`;
 
         // 2. Low Stock
-        const lowStockCount = products.filter(p => {
-            const stock = p.currentStock || 0;
-            return stock > 0 && stock < 10;
-        }).length;
-        animateValue('low-stock-count', 0, lowStockCount, 1500);
+        animateValue('low-stock-count', 0, stockStatus.lowStock || 0, 1500);
 
         // 3. Today's Revenue
-        const today = new Date().toDateString();
-        const todaysRevenue = sales
-            .filter(s => s.status === 'PAID' && new Date(s.saleDate).toDateString() === today)
-            .reduce((sum, s) => sum + (s.totalAmount || 0), 0);
+        const todaysRevenue = parseFloat(todaySummary.totalRevenue || 0);
         document.getElementById('today-revenue').textContent = `$${todaysRevenue.toFixed(2)}`;
 
         // 4. Total Sales
-        const totalSales = sales.filter(s => s.status === 'PAID').length;
+        const totalSales = allTimeSummary.totalSales || 0;
         animateValue('total-sales', 0, totalSales, 1500);
         document.getElementById('sales-count').textContent = `${totalSales} transactions`;
     }
 
     // --- RENDER LOW STOCK ALERTS ---
     function renderLowStockAlerts(products) {
-        const lowStockItems = products.filter(p => {
-            const stock = p.currentStock || 0;
-            return stock < 10 && stock > 0;
-        }).slice(0, 5);
+        // The endpoint includes products that are out of stock
+        const lowStockItems = products.filter(p => (p.currentStock || 0) > 0).slice(0, 5);
 
         const container = document.getElementById('low-stock-list');
 
@@ -161,7 +168,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     // --- RENDER RECENT TRANSACTIONS ---
     function renderRecentTransactions(sales) {
-        const recentSales = sales.slice(0, 8);
+        const recentSales = sales.slice(0, RECENT_TRANSACTIONS);
 
         const container = document.getElementById('recent-transactions');
 
@@ -190,29 +197,11 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     // --- RENDER TOP PRODUCTS ---
-    function renderTopProducts(sales, products) {
-        // Calculate product sales
-        const productSales = {};
-        sales.forEach(sale => {
-            if (sale.items && sale.status === 'PAID') {
-                sale.items.forEach(item => {
-                    const productId = item.product?.id || item.productId;
-                    if (!productSales[productId]) {
-                        productSales[productId] = {
-                            quantity: 0,
-                            revenue: 0,
-                            name: item.product?.name || 'Unknown'
-                        };
-                    }
-                    productSales[productId].quantity += item.quantity || 0;
-                    productSales[productId].revenue += item.subtotal || 0;
-                });
-            }
-        });
-
-        // Convert to array and sort
-        const topProducts = Object.values(productSales)
-            .sort((a, b) => b.revenue - a.revenue)
+    function renderTopProducts(performance) {
+        // Paid sales per product, highest revenue first
+        const topProducts = performance
+            .filter(p => parseFloat(p.revenue) > 0)
+            .sort((a, b) => parseFloat(b.revenue) - parseFloat(a.revenue))
             .slice(0, 5);
 
         const container = document.getElementById('top-products-list');
@@ -240,18 +229,12 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     // --- RENDER STOCK STATUS ---
-    function renderStockStatus(products) {
-        const inStock = products.filter(p => (p.currentStock || 0) >= 10).length;
-        const lowStock = products.filter(p => {
-            const stock = p.currentStock || 0;
-            return stock > 0 && stock < 10;
-        }).length;
-        const outOfStock = products.filter(p => (p.currentStock || 0) === 0).length;
+    function renderStockStatus(stockStatus) {
         const expired = 0; // Not tracking expiration in current backend
 
-        animateValue('in-stock-count', 0, inStock, 1500);
-        animateValue('low-stock-status', 0, lowStock, 1500);
-        animateValue('out-of-stock-count', 0, outOfStock, 1500);
+        animateValue('in-stock-count', 0, stockStatus.inStock || 0, 1500);
+        animateValue('low-stock-status', 0, stockStatus.lowStock || 0, 1500);
+        animateValue('out-of-stock-count', 0, stockStatus.outOfStock || 0, 1500);
         animateValue('expired-count', 0, expired, 1500);
     }
 
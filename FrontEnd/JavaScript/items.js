@@ -213,7 +213,7 @@ document.addEventListener('DOMContentLoaded', () => {
     async function loadAllData() {
         try {
             const [products, suppliers, categories] = await Promise.all([
-                fetchFromApi('/products'),
+                fetchAllPages('/products?limit=500'),
                 fetchFromApi('/suppliers'),
                 fetchFromApi('/categories')
             ]);
@@ -261,6 +261,20 @@ document.addEventListener('DOMContentLoaded', () => {
         return await response.json();
     }
 
+    // Fetch every page of a paginated list endpoint ({ items, next })
+    async function fetchAllPages(endpoint) {
+        const items = [];
+        let cursor = null;
+        do {
+            const separator = endpoint.includes('?') ? '&' : '?';
+            const url = cursor ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}` : endpoint;
+            const page = await fetchFromApi(url);
+            items.push(...page.items);
+            cursor = page.next;
+        } while (cursor);
+        return items;
+    }
+
     // --- UPDATE METRICS ---
     function updateMetrics() {
         animateValue('total-products', 0, allProducts.length, 1000);
@@ -28,6 +28,8 @@ document.addEventListener('DOMContentLoaded', () => {
     let allSuppliers = [];
     let allClients = [];
     let allTransactions = [];
+    let historyCursor = null;   // "next" cursor of the last loaded history page
+    const HISTORY_PAGE_SIZE = 50;
 
     // --- INITIALIZE PAGE ---
     function initPage() {
@@ -191,6 +193,7 @@ document.addEventListener('DOMContentLoaded', () => {
         document.getElementById('history-search').addEventListener('input', filterHistory);
         document.getElementById('history-type-filter').addEventListener('change', filterHistory);
         document.getElementById('history-date-filter').addEventListener('change', filterHistory);
+        document.getElementById('history-load-more').addEventListener('click', () => fetchTransactionHistory(true));
     }
 
     function filterHistory() {
@@ -226,7 +229,7 @@ document.addEventListener('DOMContentLoaded', () => {
     async function loadAllData() {
         try {
             const [products, suppliers, clients] = await Promise.all([
-                fetchFromApi('/products'),
+                fetchAllPages('/products?limit=500'),
                 fetchFromApi('/suppliers'),
                 fetchFromApi('/clients').catch(() => [])
             ]);
@@ -264,6 +267,20 @@ document.addEventListener('DOMContentLoaded', () => {
         return await response.json();
     }
 
+    // Fetch every page of a paginated list endpoint ({ items, next })
+    async function fetchAllPages(endpoint) {
+        const items = [];
+        let cursor = null;
+        do {
+            const separator = endpoint.includes('?') ? '&' : '?';
+            const url = cursor ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}` : endpoint;
+            const page = await fetchFromApi(url);
+            items.push(...page.items);
+            cursor = page.next;
+        } while (cursor);
+        return items;
+    }
+
     // --- POPULATE DROPDOWNS ---
     function populateDropdowns() {
         // Client dropdown
@@ -555,17 +572,29 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     // --- FETCH TRANSACTION HISTORY ---
-    async function fetchTransactionHistory() {
+    // Sales are paged newest first; "Load more" appends the next page
+    async function fetchTransactionHistory(loadMore = false) {
         try {
-            const response = await fetch(`${API_BASE_URL}/sales`, {
+            if (!loadMore) {
+                allTransactions = [];
+                historyCursor = null;
+            }
+
+            let url = `${API_BASE_URL}/sales?limit=${HISTORY_PAGE_SIZE}`;
+            if (historyCursor) {
+                url += `&cursor=${encodeURIComponent(historyCursor)}`;
+            }
+            const response = await fetch(url, {
                 headers: { 'Authorization': `Bearer ${token}` }
             });
             if (!response.ok) throw new Error('Failed to fetch sales history');
 
-            const sales = await response.json();
+            const page = await response.json();
+            historyCursor = page.next;
+            document.getElementById('history-load-more').style.display = historyCursor ? '' : 'none';
 
             // Format the API data
-            allTransactions = sales.map(sale => {
+            const transactions = page.items.map(sale => {
                 let itemName = "Multiple Items";
                 if (sale.items && sale.items.length > 0) {
                     const firstItem = sale.items[0];
@@ -587,7 +616,8 @@ document.addEventListener('DOMContentLoaded', () => {
                 };
             });
 
-            renderTransactionHistory(allTransactions);
+            allTransactions = allTransactions.concat(transactions);
+            filterHistory();
 
         } catch (error) {
             console.error('Error fetching transaction history:', error);
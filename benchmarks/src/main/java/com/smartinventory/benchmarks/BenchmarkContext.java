@@ -0,0 +1,87 @@
+package com.smartinventory.benchmarks;
+
+import com.smartinventory.SmartInventoryApplication;
+import com.smartinventory.benchmarks.data.DatasetGenerator;
+import com.smartinventory.benchmarks.data.DatasetSize;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * BenchmarkContext - The application running on a generated database
+ *
+ * Each instance generates a dataset into a temporary SQLite file, starts the
+ * Spring context on it (random port, no SQL logging, WARN log level) and
+ * deletes the file again on close. Use it from a @State @Setup(Level.Trial)
+ * method so the setup cost is not measured.
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+    public static final long SEED = 42L;
+
+    private final Path directory;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(Path directory, ConfigurableApplicationContext context) {
+        this.directory = directory;
+        this.context = context;
+    }
+
+    public static BenchmarkContext start(DatasetSize size) {
+        Path directory;
+        try {
+            directory = Files.createTempDirectory("smartinventory-bench");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Path dbFile = directory.resolve("inventory.db");
+        try {
+            new DatasetGenerator(SEED, size).generate(dbFile);
+        } catch (SQLException e) {
+            deleteRecursively(directory);
+            throw new IllegalStateException("Could not generate benchmark dataset", e);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SmartInventoryApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.datasource.url=" + DatasetGenerator.jdbcUrl(dbFile)
+                                + "?journal_mode=WAL&synchronous=NORMAL&busy_timeout=5000"
+                                + "&cache_size=-20000&mmap_size=268435456",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.smartinventory=WARN",
+                        "--logging.level.org.springframework.security=WARN"
+                );
+        return new BenchmarkContext(directory, context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        deleteRecursively(directory);
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
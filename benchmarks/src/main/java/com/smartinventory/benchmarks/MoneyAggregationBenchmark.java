@@ -0,0 +1,73 @@
+package com.smartinventory.benchmarks;
+
+import com.smartinventory.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing 1M sale item subtotals: BigDecimal built from the Double prices
+ * (how reports aggregated before) against long cents (Money)
+ *
+ * Setup checks that both give exactly the same total.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final int LINE_ITEMS = 1_000_000;
+
+    private double[] subtotals;
+    private long[] subtotalCents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(BenchmarkContext.SEED);
+        subtotals = new double[LINE_ITEMS];
+        subtotalCents = new long[LINE_ITEMS];
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            long cents = 100 + random.nextInt(100_000);
+            subtotals[i] = cents / 100.0;
+            subtotalCents[i] = Money.toCents(subtotals[i]);
+        }
+
+        BigDecimal expected = sumBigDecimal();
+        if (expected.compareTo(Money.toBigDecimal(sumCents())) != 0) {
+            throw new IllegalStateException("Cents total differs from BigDecimal total " + expected);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (double subtotal : subtotals) {
+            total = total.add(BigDecimal.valueOf(subtotal));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long sumCents() {
+        long total = 0;
+        for (long cents : subtotalCents) {
+            total += cents;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,69 @@
+package com.smartinventory.benchmarks;
+
+import com.smartinventory.benchmarks.data.DatasetSize;
+import com.smartinventory.dto.report.ProductPerformanceDTO;
+import com.smartinventory.dto.report.SummaryMetricsDTO;
+import com.smartinventory.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReportService over 1k, 100k and 1M sales (last 30 days, as the dashboard asks)
+ *
+ * ReportService is called directly, so ReportCache is not involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int sales;
+
+    private BenchmarkContext context;
+    private ReportService reportService;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(DatasetSize.ofSales(sales));
+        reportService = context.getBean(ReportService.class);
+        endDate = LocalDate.now().atStartOfDay();
+        startDate = endDate.minusDays(30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public SummaryMetricsDTO summaryMetrics() {
+        return reportService.getSummaryMetrics(startDate, endDate);
+    }
+
+    @Benchmark
+    public List<ProductPerformanceDTO> productPerformance() {
+        return reportService.getProductPerformance(startDate, endDate);
+    }
+}
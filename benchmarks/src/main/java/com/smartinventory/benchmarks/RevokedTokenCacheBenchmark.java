@@ -0,0 +1,74 @@
+package com.smartinventory.benchmarks;
+
+import com.smartinventory.service.RevokedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RevokedTokenCache lookups with a given number of revoked tokens:
+ * a token that was never revoked (answered by the bloom filter) and a revoked one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevokedTokenCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    public int revoked;
+
+    private RevokedTokenCache cache;
+    private String revokedKey;
+    private String validKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = new RevokedTokenCache(100_000, 0.01);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+        for (int i = 0; i < revoked; i++) {
+            cache.add(key(i), expiresAt);
+        }
+        revokedKey = key(revoked / 2);
+        validKey = key(revoked + 1);
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return cache.mightBeRevoked(validKey) && cache.isRevoked(validKey);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return cache.mightBeRevoked(revokedKey) && cache.isRevoked(revokedKey);
+    }
+
+    /**
+     * Key in the format used by TokenBlacklistService (hex SHA-256)
+     */
+    private static String key(int i) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(("token-" + i).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
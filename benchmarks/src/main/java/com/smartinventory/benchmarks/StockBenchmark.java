@@ -0,0 +1,73 @@
+package com.smartinventory.benchmarks;
+
+import com.smartinventory.benchmarks.data.DatasetSize;
+import com.smartinventory.service.ProductService;
+import com.smartinventory.service.StockService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Current stock of a product: loading the product and reading
+ * Product.getCurrentStock(), and the StockService.calculateCurrentStock query
+ *
+ * Product ids cycle through the whole catalogue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StockBenchmark {
+
+    @Param({"100000"})
+    public int sales;
+
+    private BenchmarkContext context;
+    private ProductService productService;
+    private StockService stockService;
+    private int productCount;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetSize size = DatasetSize.ofSales(sales);
+        context = BenchmarkContext.start(size);
+        productService = context.getBean(ProductService.class);
+        stockService = context.getBean(StockService.class);
+        productCount = size.getProducts();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int productCurrentStock() {
+        return productService.getProductById(nextProductId()).getCurrentStock();
+    }
+
+    @Benchmark
+    public Integer calculateCurrentStock() {
+        return stockService.calculateCurrentStock(nextProductId());
+    }
+
+    private Long nextProductId() {
+        nextId = nextId % productCount + 1;
+        return nextId;
+    }
+}
@@ -0,0 +1,349 @@
+package com.smartinventory.benchmarks.data;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.SplittableRandom;
+
+/**
+ * DatasetGenerator - Seeds a SQLite database with synthetic inventory data
+ *
+ * The schema is created by the application's Flyway migrations, then every
+ * table is filled with JDBC batch inserts, committed every 10,000 rows. The
+ * same seed, size and anchor date always produce the same rows. A failed run
+ * leaves a partially filled database behind.
+ *
+ * Data shape:
+ * - Sales are spread over the 365 days before the anchor date
+ *   (85% PAID, 10% PENDING, 5% CANCELLED, 20% walk-in without client)
+ * - One OUT stock movement per item of a paid sale, the requested number of
+ *   restocks (IN, 10 to 100 units) and one initial IN per product so that its
+ *   balance ends between 0 and 60 (some products are low or out of stock)
+ * - product.on_hand and the *_cents columns are filled like the application
+ *   would; the daily sales rollup is left empty and rebuilt on startup
+ * - One ADMIN user: USERNAME / PASSWORD
+ */
+public class DatasetGenerator {
+
+    public static final String USERNAME = "bench";
+    public static final String PASSWORD = "bench-password";
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int HISTORY_DAYS = 365;
+    private static final String[] PAYMENT_METHODS = {"CASH", "CARD", "MOBILE", "CREDIT"};
+
+    private final long seed;
+    private final DatasetSize size;
+    private final LocalDate anchor;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public DatasetGenerator(long seed, DatasetSize size, LocalDate anchor) {
+        this.seed = seed;
+        this.size = size;
+        this.anchor = anchor;
+    }
+
+    /**
+     * Generator anchored to today (sales end yesterday)
+     */
+    public DatasetGenerator(long seed, DatasetSize size) {
+        this(seed, size, LocalDate.now());
+    }
+
+    public static String jdbcUrl(Path dbFile) {
+        return "jdbc:sqlite:" + dbFile.toAbsolutePath();
+    }
+
+    /**
+     * Migrate and fill the database file (it should not exist or be empty)
+     *
+     * @return number of rows inserted
+     */
+    public long generate(Path dbFile) throws SQLException {
+        String url = jdbcUrl(dbFile);
+        Flyway.configure().dataSource(url, null, null).load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=OFF");
+                statement.execute("PRAGMA cache_size=-200000");
+            }
+            connection.setAutoCommit(false);
+            return insertAll(connection);
+        }
+    }
+
+    private long insertAll(Connection connection) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        long epoch = millis(anchor.minusDays(HISTORY_DAYS + 1));
+        long rows = 0;
+
+        rows += insertUser(connection, epoch);
+        rows += insertNamed(connection,
+                "INSERT INTO category (id, created_at, description, name) VALUES (?, ?, ?, ?)",
+                size.getCategories(), "Category", epoch);
+        rows += insertNamed(connection,
+                "INSERT INTO supplier (id, created_at, contact_person, name) VALUES (?, ?, ?, ?)",
+                size.getSuppliers(), "Supplier", epoch);
+        rows += insertNamed(connection,
+                "INSERT INTO client (id, created_at, email, name) VALUES (?, ?, ?, ?)",
+                size.getClients(), "Client", epoch);
+
+        // Prices are needed by the sales, on_hand only once all sales are known
+        int productCount = size.getProducts();
+        long[] costCents = new long[productCount];
+        long[] priceCents = new long[productCount];
+        for (int p = 0; p < productCount; p++) {
+            costCents[p] = 100 + random.nextInt(20_000);
+            priceCents[p] = costCents[p] + costCents[p] * (10 + random.nextInt(70)) / 100;
+        }
+        long[] sold = new long[productCount];
+        long[] restocked = new long[productCount];
+
+        rows += insertSales(connection, random, costCents, priceCents, sold);
+        rows += insertRestocks(connection, random, restocked);
+        rows += insertProducts(connection, random, costCents, priceCents, sold, restocked, epoch);
+        return rows;
+    }
+
+    // ============================================
+    // REFERENCE DATA
+    // ============================================
+
+    private long insertUser(Connection connection, long createdAt) throws SQLException {
+        String sql = "INSERT INTO user (id, created_at, email, password, role, username) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            insert.setLong(1, 1);
+            insert.setLong(2, createdAt);
+            insert.setString(3, USERNAME + "@example.com");
+            insert.setString(4, new BCryptPasswordEncoder().encode(PASSWORD));
+            insert.setString(5, "ADMIN");
+            insert.setString(6, USERNAME);
+            int rows = insert.executeUpdate();
+            connection.commit();
+            return rows;
+        }
+    }
+
+    /**
+     * Insert rows of a table with (id, created_at, text, name) columns
+     */
+    private long insertNamed(Connection connection, String sql, int count, String label, long createdAt)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int id = 1; id <= count; id++) {
+                insert.setLong(1, id);
+                insert.setLong(2, createdAt);
+                insert.setString(3, label.equals("Client") ? "client" + id + "@example.com" : label + " " + id);
+                insert.setString(4, label + " " + id);
+                insert.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    flush(connection, insert);
+                }
+            }
+            flush(connection, insert);
+        }
+        return count;
+    }
+
+    // ============================================
+    // SALES
+    // ============================================
+
+    private long insertSales(Connection connection, SplittableRandom random,
+                             long[] costCents, long[] priceCents, long[] sold) throws SQLException {
+        String saleSql = "INSERT INTO sale (id, created_at, payment_method, sale_date, sale_reference, "
+                + "status, total_amount, client_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String itemSql = "INSERT INTO sale_item (id, created_at, discount, quantity, subtotal, unit_price, "
+                + "product_id, sale_id, unit_cost, unit_cost_cents, subtotal_cents) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String stockSql = "INSERT INTO stock (id, created_at, movement_type, quantity, reason, reference, product_id) "
+                + "VALUES (?, ?, 'OUT', ?, ?, ?, ?)";
+
+        long rows = 0;
+        long itemId = 0;
+        long stockId = 0;
+        long end = millis(anchor);
+        long span = end - millis(anchor.minusDays(HISTORY_DAYS));
+
+        try (PreparedStatement saleInsert = connection.prepareStatement(saleSql);
+             PreparedStatement itemInsert = connection.prepareStatement(itemSql);
+             PreparedStatement stockInsert = connection.prepareStatement(stockSql)) {
+
+            for (int saleId = 1; saleId <= size.getSales(); saleId++) {
+                long saleDate = end - 1 - random.nextLong(span);
+                String reference = String.format("SALE-%06d", saleId);
+                int roll = random.nextInt(100);
+                String status = roll < 85 ? "PAID" : roll < 95 ? "PENDING" : "CANCELLED";
+
+                long totalCents = 0;
+                int items = 1 + random.nextInt(size.getMaxItemsPerSale());
+                for (int i = 0; i < items; i++) {
+                    int p = random.nextInt(costCents.length);
+                    int quantity = 1 + random.nextInt(5);
+                    long lineCents = priceCents[p] * quantity;
+                    long discountCents = random.nextInt(10) == 0 ? lineCents / 20 : 0;
+                    long subtotalCents = lineCents - discountCents;
+                    totalCents += subtotalCents;
+
+                    itemInsert.setLong(1, ++itemId);
+                    itemInsert.setLong(2, saleDate);
+                    itemInsert.setDouble(3, discountCents / 100.0);
+                    itemInsert.setInt(4, quantity);
+                    itemInsert.setDouble(5, subtotalCents / 100.0);
+                    itemInsert.setDouble(6, priceCents[p] / 100.0);
+                    itemInsert.setLong(7, p + 1);
+                    itemInsert.setLong(8, saleId);
+                    itemInsert.setDouble(9, costCents[p] / 100.0);
+                    itemInsert.setLong(10, costCents[p]);
+                    itemInsert.setLong(11, subtotalCents);
+                    itemInsert.addBatch();
+                    rows++;
+
+                    if (status.equals("PAID")) {
+                        sold[p] += quantity;
+                        stockInsert.setLong(1, ++stockId);
+                        stockInsert.setLong(2, saleDate);
+                        stockInsert.setInt(3, -quantity);
+                        stockInsert.setString(4, "Sale: " + reference);
+                        stockInsert.setString(5, reference);
+                        stockInsert.setLong(6, p + 1);
+                        stockInsert.addBatch();
+                        rows++;
+                    }
+                }
+
+                saleInsert.setLong(1, saleId);
+                saleInsert.setLong(2, saleDate);
+                saleInsert.setString(3, PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)]);
+                saleInsert.setLong(4, saleDate);
+                saleInsert.setString(5, reference);
+                saleInsert.setString(6, status);
+                saleInsert.setDouble(7, totalCents / 100.0);
+                if (random.nextInt(5) == 0) {
+                    saleInsert.setNull(8, Types.BIGINT);
+                } else {
+                    saleInsert.setLong(8, 1 + random.nextInt(size.getClients()));
+                }
+                saleInsert.addBatch();
+                rows++;
+
+                if (saleId % BATCH_SIZE == 0) {
+                    flush(connection, saleInsert, itemInsert, stockInsert);
+                }
+            }
+            flush(connection, saleInsert, itemInsert, stockInsert);
+        }
+        return rows;
+    }
+
+    /**
+     * Restocks (purchases from suppliers) spread over the sales history
+     */
+    private long insertRestocks(Connection connection, SplittableRandom random, long[] restocked)
+            throws SQLException {
+        String sql = "INSERT INTO stock (created_at, movement_type, quantity, reason, reference, product_id) "
+                + "VALUES (?, 'IN', ?, 'Purchase from supplier', ?, ?)";
+        long end = millis(anchor);
+        long span = end - millis(anchor.minusDays(HISTORY_DAYS));
+
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= size.getRestocks(); i++) {
+                int p = random.nextInt(restocked.length);
+                int quantity = 10 + random.nextInt(91);
+                restocked[p] += quantity;
+
+                insert.setLong(1, end - 1 - random.nextLong(span));
+                insert.setInt(2, quantity);
+                insert.setString(3, String.format("PO-%06d", i));
+                insert.setLong(4, p + 1);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    flush(connection, insert);
+                }
+            }
+            flush(connection, insert);
+        }
+        return size.getRestocks();
+    }
+
+    // ============================================
+    // PRODUCTS AND INITIAL STOCK
+    // ============================================
+
+    private long insertProducts(Connection connection, SplittableRandom random,
+                                long[] costCents, long[] priceCents, long[] sold, long[] restocked,
+                                long createdAt) throws SQLException {
+        String productSql = "INSERT INTO product (id, brand, cost_price, created_at, name, selling_price, sku, "
+                + "category_id, supplier_id, on_hand, cost_price_cents, selling_price_cents) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        // Stock ids continue after the OUT and restock movements
+        String stockSql = "INSERT INTO stock (created_at, movement_type, quantity, reason, product_id) "
+                + "VALUES (?, 'IN', ?, 'Initial stock', ?)";
+
+        try (PreparedStatement productInsert = connection.prepareStatement(productSql);
+             PreparedStatement stockInsert = connection.prepareStatement(stockSql)) {
+
+            long rows = 0;
+            for (int p = 0; p < costCents.length; p++) {
+                // The initial IN covers what was sold beyond the restocks
+                long initial = Math.max(0, sold[p] + random.nextInt(61) - restocked[p]);
+                long onHand = initial + restocked[p] - sold[p];
+                long id = p + 1;
+
+                productInsert.setLong(1, id);
+                productInsert.setString(2, "Brand " + (1 + p % 25));
+                productInsert.setDouble(3, costCents[p] / 100.0);
+                productInsert.setLong(4, createdAt);
+                productInsert.setString(5, "Product " + id);
+                productInsert.setDouble(6, priceCents[p] / 100.0);
+                productInsert.setString(7, String.format("SKU-%06d", id));
+                productInsert.setLong(8, 1 + random.nextInt(size.getCategories()));
+                productInsert.setLong(9, 1 + random.nextInt(size.getSuppliers()));
+                productInsert.setLong(10, onHand);
+                productInsert.setLong(11, costCents[p]);
+                productInsert.setLong(12, priceCents[p]);
+                productInsert.addBatch();
+                rows++;
+
+                if (initial > 0) {
+                    stockInsert.setLong(1, createdAt);
+                    stockInsert.setLong(2, initial);
+                    stockInsert.setLong(3, id);
+                    stockInsert.addBatch();
+                    rows++;
+                }
+
+                if (id % BATCH_SIZE == 0) {
+                    flush(connection, productInsert, stockInsert);
+                }
+            }
+            flush(connection, productInsert, stockInsert);
+            return rows;
+        }
+    }
+
+    /**
+     * Execute the pending batches and commit them
+     */
+    private void flush(Connection connection, PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private long millis(LocalDate date) {
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,84 @@
+package com.smartinventory.benchmarks.data;
+
+/**
+ * DatasetSize - Row counts for a generated dataset
+ *
+ * Sales have 1 to maxItemsPerSale items each. Stock movements are one OUT per
+ * paid sale item, one initial IN per product and the given number of restocks
+ * (IN movements spread over the sales history).
+ */
+public class DatasetSize {
+
+    private final int categories;
+    private final int suppliers;
+    private final int clients;
+    private final int products;
+    private final int sales;
+    private final int maxItemsPerSale;
+    private final int restocks;
+
+    public DatasetSize(int categories, int suppliers, int clients, int products,
+                       int sales, int maxItemsPerSale, int restocks) {
+        if (categories < 1 || suppliers < 1 || clients < 1 || products < 1
+                || sales < 0 || maxItemsPerSale < 1 || restocks < 0) {
+            throw new IllegalArgumentException("Invalid dataset size");
+        }
+        this.categories = categories;
+        this.suppliers = suppliers;
+        this.clients = clients;
+        this.products = products;
+        this.sales = sales;
+        this.maxItemsPerSale = maxItemsPerSale;
+        this.restocks = restocks;
+    }
+
+    /**
+     * Default catalogue (20 categories, 50 suppliers, 1000 clients,
+     * 1000 products, up to 5 items per sale, one restock per 10 sales) with the
+     * given number of sales
+     */
+    public static DatasetSize ofSales(int sales) {
+        return new DatasetSize(20, 50, 1000, 1000, sales, 5, sales / 10);
+    }
+
+    public int getCategories() {
+        return categories;
+    }
+
+    public int getSuppliers() {
+        return suppliers;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public int getSales() {
+        return sales;
+    }
+
+    public int getMaxItemsPerSale() {
+        return maxItemsPerSale;
+    }
+
+    public int getRestocks() {
+        return restocks;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetSize{" +
+                "categories=" + categories +
+                ", suppliers=" + suppliers +
+                ", clients=" + clients +
+                ", products=" + products +
+                ", sales=" + sales +
+                ", maxItemsPerSale=" + maxItemsPerSale +
+                ", restocks=" + restocks +
+                '}';
+    }
+}
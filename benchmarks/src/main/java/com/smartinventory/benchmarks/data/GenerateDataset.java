@@ -0,0 +1,66 @@
+package com.smartinventory.benchmarks.data;
+
+import com.smartinventory.benchmarks.CommandLineArgs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * GenerateDataset - Command line entry point of DatasetGenerator
+ *
+ * Options (defaults in brackets):
+ *   --db=PATH            database file [inventory.db]
+ *   --seed=N             random seed [42]
+ *   --anchor=YYYY-MM-DD  sales end the day before [today]
+ *   --categories=N [20]  --suppliers=N [50]  --clients=N [1000]
+ *   --products=N [1000]  --sales=N [100000]  --max-items=N [5]
+ *   --restocks=N         restock movements [sales / 10]
+ *   --force              replace an existing database file
+ *
+ * Example, about 10M rows (1.5M sales, ~4.5M items, ~4M stock movements):
+ *   mvn compile exec:java -Dexec.mainClass=com.smartinventory.benchmarks.data.GenerateDataset \
+ *       -Dexec.args="--db=../inventory.db --sales=1500000 --products=20000 --force"
+ */
+public final class GenerateDataset {
+
+    private GenerateDataset() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        CommandLineArgs options = new CommandLineArgs(args);
+        Path dbFile = Paths.get(options.getString("db", "inventory.db"));
+        int sales = options.getInt("sales", 100_000);
+        DatasetSize size = new DatasetSize(
+                options.getInt("categories", 20),
+                options.getInt("suppliers", 50),
+                options.getInt("clients", 1000),
+                options.getInt("products", 1000),
+                sales,
+                options.getInt("max-items", 5),
+                options.getInt("restocks", sales / 10)
+        );
+        long seed = options.getLong("seed", 42L);
+        LocalDate anchor = LocalDate.parse(options.getString("anchor", LocalDate.now().toString()));
+
+        if (Files.exists(dbFile)) {
+            if (!options.has("force")) {
+                System.err.println(dbFile + " already exists (use --force to replace it)");
+                System.exit(1);
+            }
+            // WAL mode leaves -wal and -shm files next to the database
+            for (String suffix : new String[] {"", "-wal", "-shm"}) {
+                Files.deleteIfExists(Paths.get(dbFile + suffix));
+            }
+        }
+
+        System.out.println("Generating " + size + " (seed " + seed + ", anchor " + anchor + ") into " + dbFile);
+        long start = System.currentTimeMillis();
+        long rows = new DatasetGenerator(seed, size, anchor).generate(dbFile);
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        System.out.printf("Inserted %,d rows in %.1f s (%,d rows/s)%n", rows, elapsed / 1000.0, rows * 1000 / elapsed);
+    }
+}
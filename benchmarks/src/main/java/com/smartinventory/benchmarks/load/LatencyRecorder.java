@@ -0,0 +1,51 @@
+package com.smartinventory.benchmarks.load;
+
+import java.util.Arrays;
+
+/**
+ * LatencyRecorder - Response times and errors of one endpoint
+ *
+ * Keeps every successful sample (nanoseconds) so percentiles are exact.
+ * Failed requests are only counted.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void recordSuccess(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    /**
+     * Snapshot of the recorded samples, sorted ascending
+     */
+    synchronized long[] sortedSamples() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,293 @@
+package com.smartinventory.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartinventory.benchmarks.CommandLineArgs;
+import com.smartinventory.benchmarks.data.DatasetGenerator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * LoadDriver - Replays the frontend's API traffic against a running instance
+ *
+ * Logs in once, then every virtual user repeatedly picks a request from a
+ * weighted mix of the calls the pages make (dashboard, items, transactions,
+ * reports), including writes: sales, stock additions and removals. Requests
+ * are sent back to back (closed loop) unless --think-ms is set.
+ *
+ * After the warmup, per endpoint: requests, errors (status >= 400 or I/O
+ * failure), throughput and p50/p99/max latency of the successful requests.
+ *
+ * Options (defaults in brackets):
+ *   --url=URL            application base URL [http://localhost:5001]
+ *   --username=NAME      [bench]   --password=PASSWORD [bench-password]
+ *   --users=N            concurrent virtual users [16]
+ *   --warmup=SECONDS     not measured [10]
+ *   --duration=SECONDS   measured [60]
+ *   --think-ms=N         pause between requests of a user [0]
+ *   --products=N         product ids to pick from, 1..N [1000]
+ *   --clients=N          client ids to pick from, 1..N [1000]
+ *   --seed=N             random seed [42]
+ *   --report-cache-bypass  send X-Report-Cache: bypass on report requests
+ *
+ * Example, against a database seeded by GenerateDataset:
+ *   mvn compile exec:java -Dexec.mainClass=com.smartinventory.benchmarks.load.LoadDriver \
+ *       -Dexec.args="--users=32 --duration=120"
+ */
+public final class LoadDriver {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String apiUrl;
+    private final CommandLineArgs options;
+    private final List<Operation> operations = new ArrayList<>();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private int totalWeight;
+    private String authorization;
+
+    private LoadDriver(CommandLineArgs options) {
+        this.options = options;
+        this.apiUrl = options.getString("url", "http://localhost:5001") + "/api";
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new CommandLineArgs(args)).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        authorization = "Bearer " + login(
+                options.getString("username", DatasetGenerator.USERNAME),
+                options.getString("password", DatasetGenerator.PASSWORD));
+        defineOperations();
+
+        int users = options.getInt("users", 16);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(options.getInt("warmup", 10));
+        long durationNanos = TimeUnit.SECONDS.toNanos(options.getInt("duration", 60));
+        long thinkMillis = options.getInt("think-ms", 0);
+        long seed = options.getLong("seed", 42L);
+
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long measureUntil = measureFrom + durationNanos;
+        System.out.printf("%d users, %d s warmup, %d s measured against %s%n",
+                users, TimeUnit.NANOSECONDS.toSeconds(warmupNanos),
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos), apiUrl);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                SplittableRandom random = new SplittableRandom(seed + user);
+                executor.submit(() -> {
+                    runUser(random, measureFrom, measureUntil, thinkMillis);
+                    return null;
+                });
+            }
+        }
+
+        printReport(TimeUnit.NANOSECONDS.toMillis(durationNanos) / 1000.0);
+    }
+
+    // ============================================
+    // WORKLOAD
+    // ============================================
+
+    /**
+     * The request mix, weighted roughly like the frontend's page loads:
+     * every page loads the products, the dashboard also the sales, and
+     * most user actions are sales and stock movements.
+     */
+    private void defineOperations() {
+        int products = options.getInt("products", 1000);
+        int clients = options.getInt("clients", 1000);
+        boolean bypassReportCache = options.has("report-cache-bypass");
+        String today = LocalDate.now().toString();
+        String monthAgo = LocalDate.now().minusDays(30).toString();
+
+        // Reads
+        add("GET /products?limit=500", 20, random -> get("/products?limit=500"));
+        add("GET /products/{id}", 10, random -> get("/products/" + (1 + random.nextInt(products))));
+        add("GET /sales?limit=500", 8, random -> get("/sales?limit=500"));
+        add("GET /sales?limit=50", 8, random -> get("/sales?limit=50"));
+        add("GET /stock?limit=50", 8, random -> get("/stock?limit=50"));
+        add("GET /suppliers", 5, random -> get("/suppliers"));
+        add("GET /categories", 4, random -> get("/categories"));
+        add("GET /reports/full", 4, random -> report(
+                "/reports/full?startDate=" + monthAgo + "&endDate=" + today + "&days=30", bypassReportCache));
+        add("GET /reports/summary", 3, random -> report("/reports/summary", bypassReportCache));
+
+        // Writes
+        add("POST /sales", 15, random -> post("/sales", saleJson(random, products, clients)));
+        add("POST /stock/add", 8, random -> post("/stock/add", String.format(
+                "{\"productId\":%d,\"quantity\":%d,\"reason\":\"Purchase from supplier\",\"reference\":\"PO-LOAD-%d\"}",
+                1 + random.nextInt(products), 10 + random.nextInt(41), random.nextInt(1_000_000))));
+        add("POST /stock/remove", 4, random -> post("/stock/remove", String.format(
+                "{\"productId\":%d,\"quantity\":1,\"reason\":\"Damaged. Load test\",\"reference\":\"REMOVAL-LOAD-%d\"}",
+                1 + random.nextInt(products), random.nextInt(1_000_000))));
+    }
+
+    /**
+     * A paid sale of 1 to 3 products, like the transactions page sends it
+     * (the server fills in prices and the reference)
+     */
+    private static String saleJson(SplittableRandom random, int products, int clients) {
+        StringBuilder items = new StringBuilder();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append(String.format("{\"product\":{\"id\":%d},\"quantity\":%d,\"discount\":0}",
+                    1 + random.nextInt(products), 1 + random.nextInt(3)));
+        }
+        String client = random.nextInt(5) == 0 ? "null" : "{\"id\":" + (1 + random.nextInt(clients)) + "}";
+        return "{\"client\":" + client + ",\"status\":\"PAID\",\"paymentMethod\":\"CASH\",\"items\":[" + items + "]}";
+    }
+
+    private void runUser(SplittableRandom random, long measureFrom, long measureUntil, long thinkMillis)
+            throws InterruptedException {
+        while (System.nanoTime() < measureUntil) {
+            Operation operation = pick(random);
+            HttpRequest request = operation.requestFactory.apply(random);
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            }
+            long end = System.nanoTime();
+
+            if (start >= measureFrom && end <= measureUntil) {
+                LatencyRecorder recorder = recorders.get(operation.name);
+                if (success) {
+                    recorder.recordSuccess(end - start);
+                } else {
+                    recorder.recordError();
+                }
+            }
+            if (thinkMillis > 0) {
+                Thread.sleep(thinkMillis);
+            }
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Empty request mix");
+    }
+
+    // ============================================
+    // HTTP HELPERS
+    // ============================================
+
+    private String login(String username, String password) throws IOException, InterruptedException {
+        String body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed (" + response.statusCode() + "): " + response.body());
+        }
+        JsonNode result = new ObjectMapper().readTree(response.body());
+        return result.get("token").asText();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest report(String path, boolean bypassCache) {
+        HttpRequest.Builder builder = request(path).GET();
+        if (bypassCache) {
+            builder.header("X-Report-Cache", "bypass");
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", authorization);
+    }
+
+    private void add(String name, int weight, Function<SplittableRandom, HttpRequest> requestFactory) {
+        operations.add(new Operation(name, weight, requestFactory));
+        recorders.put(name, new LatencyRecorder());
+        totalWeight += weight;
+    }
+
+    // ============================================
+    // REPORT
+    // ============================================
+
+    private void printReport(double seconds) {
+        String format = "%-28s %10s %8s %10s %10s %10s %10s%n";
+        System.out.println();
+        System.out.printf(format, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "max ms");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            long[] samples = entry.getValue().sortedSamples();
+            long errors = entry.getValue().getErrors();
+            totalRequests += samples.length + errors;
+            totalErrors += errors;
+
+            System.out.printf(format,
+                    entry.getKey(),
+                    samples.length + errors,
+                    errors,
+                    String.format("%.1f", samples.length / seconds),
+                    String.format("%.2f", LatencyRecorder.percentileMillis(samples, 50)),
+                    String.format("%.2f", LatencyRecorder.percentileMillis(samples, 99)),
+                    String.format("%.2f", LatencyRecorder.percentileMillis(samples, 100)));
+        }
+        System.out.printf(format, "TOTAL", totalRequests, totalErrors,
+                String.format("%.1f", (totalRequests - totalErrors) / seconds), "", "", "");
+    }
+
+    private static final class Operation {
+        private final String name;
+        private final int weight;
+        private final Function<SplittableRandom, HttpRequest> requestFactory;
+
+        private Operation(String name, int weight, Function<SplittableRandom, HttpRequest> requestFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.requestFactory = requestFactory;
+        }
+    }
+}
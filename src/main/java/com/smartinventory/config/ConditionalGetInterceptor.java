@@ -0,0 +1,91 @@
+package com.smartinventory.config;
+
+import com.smartinventory.service.DataChangedEvent.Table;
+import com.smartinventory.service.DataVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * ConditionalGetInterceptor - ETags and 304 Not Modified for GET requests
+ *
+ * The ETag is built from the versions of the tables the responses are read
+ * from (see DataVersions), not from the response body, e.g. W/"lq3x1k-12.4.3"
+ * (epoch, then one version per table). The tag is weak because the same data
+ * may be sent gzip-compressed or not; Vary: Accept-Encoding keeps the two
+ * representations apart in shared caches. It is checked against If-None-Match
+ * before the controller runs, so an unchanged resource is answered with 304
+ * without running a single query.
+ *
+ * Responses built from "today" (reports whose default range ends now) add the
+ * date, so they are revalidated at least once per day. Requests sent with
+ * "X-Report-Cache: bypass" get the ETag but are always computed.
+ *
+ * Registered per resource in WebConfig.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final DataVersions dataVersions;
+    private final Set<Table> dependsOn;
+    private final boolean changesDaily;
+
+    /**
+     * @param dependsOn - tables the responses are read from
+     * @param changesDaily - responses depend on the current date
+     */
+    public ConditionalGetInterceptor(DataVersions dataVersions, Set<Table> dependsOn, boolean changesDaily) {
+        this.dataVersions = dataVersions;
+        this.dependsOn = EnumSet.copyOf(dependsOn);
+        this.changesDaily = changesDaily;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        String etag = currentEtag();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if ("bypass".equalsIgnoreCase(request.getHeader("X-Report-Cache"))) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return true;
+        }
+
+        // Sets the ETag header, and the 304 status if If-None-Match matches
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    /**
+     * Weak ETag for the current versions of the tables
+     *
+     * The versions must be read before the controller queries the data: a write
+     * committed in between bumps them, so the response is never tagged newer
+     * than the data it contains.
+     */
+    private String currentEtag() {
+        StringBuilder etag = new StringBuilder("W/\"").append(Long.toString(dataVersions.getEpoch(), 36));
+        char separator = '-';
+        for (Table table : dependsOn) {
+            etag.append(separator).append(dataVersions.get(table));
+            separator = '.';
+        }
+        if (changesDaily) {
+            etag.append('-').append(LocalDate.now());
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.smartinventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSourceConfig - SQLite connection pools
+ *
+ * SQLite allows one writer at a time. Instead of letting several pooled
+ * connections race for the write lock (SQLITE_BUSY), all read-write
+ * transactions share a single-connection writer pool and queue in Hikari.
+ * Reads use a separate pool; in WAL mode they are not blocked by the writer.
+ * The pool is chosen per transaction (see ReadWriteRoutingDataSource), which
+ * requires spring.jpa.open-in-view=false.
+ *
+ * The pragmas (journal_mode=WAL, synchronous=NORMAL, busy_timeout, cache_size,
+ * mmap_size) are passed as parameters of spring.datasource.url, which
+ * sqlite-jdbc applies to every connection it opens.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${sqlite.read-pool.size:4}")
+    private int readPoolSize;
+
+    /**
+     * Single-connection pool for read-write transactions
+     */
+    @Bean
+    public HikariDataSource writerDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("sqlite-writer");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    /**
+     * Pool for read-only transactions and non-transactional reads
+     */
+    @Bean
+    public HikariDataSource readerDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("sqlite-reader");
+        dataSource.setMaximumPoolSize(readPoolSize);
+        return dataSource;
+    }
+
+    /**
+     * DataSource used by JPA: routes each connection to the writer or reader pool
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writer,
+                                 @Qualifier("readerDataSource") DataSource reader) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.Route.WRITE, writer);
+        targets.put(ReadWriteRoutingDataSource.Route.READ, reader);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
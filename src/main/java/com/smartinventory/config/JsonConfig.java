@@ -0,0 +1,62 @@
+package com.smartinventory.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * JsonConfig - JSON response formatting
+ *
+ * Responses are written compact. Add ?pretty=true to any request to get
+ * indented output while debugging.
+ *
+ * Entities are serialized after their transaction has ended
+ * (spring.jpa.open-in-view=false), so a lazy association that was not loaded
+ * is written as {"id": ...} and a lazy collection as null, instead of being
+ * loaded during rendering. Services load what an endpoint is meant to return.
+ */
+@Configuration
+public class JsonConfig {
+
+    public static final String PRETTY_PARAM = "pretty";
+
+    /**
+     * Replaces Spring Boot's default converter (same ObjectMapper)
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType mediaType) {
+                return isPrettyRequested() ? writer.withDefaultPrettyPrinter() : writer;
+            }
+        };
+    }
+
+    /**
+     * Picked up by Spring Boot's ObjectMapper (every Module bean is registered)
+     */
+    @Bean
+    public Hibernate6Module hibernate6Module() {
+        Hibernate6Module module = new Hibernate6Module();
+        module.enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+        return module;
+    }
+
+    /**
+     * Whether the current request asked for indented JSON
+     */
+    public static boolean isPrettyRequested() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                && "true".equalsIgnoreCase(servletAttributes.getRequest().getParameter(PRETTY_PARAM));
+    }
+}
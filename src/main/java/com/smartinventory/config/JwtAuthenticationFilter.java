@@ -1,9 +1,11 @@
 package com.smartinventory.config;
 
-import com.smartinventory.model.User;
+import com.smartinventory.dto.AuthenticatedUser;
 import com.smartinventory.service.JwtService;
+import com.smartinventory.service.PrincipalCache;
 import com.smartinventory.service.TokenBlacklistService;
-import com.smartinventory.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JwtAuthenticationFilter - Validates JWT tokens on each request
@@ -25,29 +30,53 @@ import java.util.Collections;
  * This filter:
  * 1. Extracts JWT token from Authorization header
  * 2. Validates the token
- * 3. Loads user details from database
+ * 3. Loads user details (PrincipalCache, database on a miss)
  * 4. Sets authentication in SecurityContext
  * 5. Passes request to next filter
  *
  * If token is invalid or missing, request continues but without authentication.
  * SecurityConfig will then reject unauthorized requests to protected endpoints.
+ *
+ * Timers (excluding the rest of the filter chain):
+ * - auth.jwt.filter, tagged with the outcome (anonymous, authenticated,
+ *   revoked, invalid, error)
+ * - auth.jwt.filter.blacklist: the revocation check
+ * - auth.jwt.filter.user.lookup: loading the user (PrincipalCache)
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserService userService;
+    private final PrincipalCache principalCache;
     private final TokenBlacklistService tokenBlacklistService;
 
+    private final Map<String, Timer> filterTimers = new HashMap<>();
+    private final Timer blacklistTimer;
+    private final Timer userLookupTimer;
+
     @Autowired
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            UserService userService,
-            TokenBlacklistService tokenBlacklistService
+            PrincipalCache principalCache,
+            TokenBlacklistService tokenBlacklistService,
+            MeterRegistry meterRegistry
     ) {
         this.jwtService = jwtService;
-        this.userService = userService;
+        this.principalCache = principalCache;
         this.tokenBlacklistService = tokenBlacklistService;
+
+        for (String outcome : new String[] {"anonymous", "authenticated", "revoked", "invalid", "error"}) {
+            filterTimers.put(outcome, Timer.builder("auth.jwt.filter")
+                    .description("JWT authentication per request")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        this.blacklistTimer = Timer.builder("auth.jwt.filter.blacklist")
+                .description("Revoked token check")
+                .register(meterRegistry);
+        this.userLookupTimer = Timer.builder("auth.jwt.filter.user.lookup")
+                .description("Authenticated user lookup")
+                .register(meterRegistry);
     }
 
     @Override
@@ -57,13 +86,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        String outcome = authenticate(request);
+        filterTimers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        // Continue to next filter
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticate the request from its Authorization header, if any
+     *
+     * @return outcome for the auth.jwt.filter timer
+     */
+    private String authenticate(HttpServletRequest request) {
+
         // Get Authorization header
         final String authHeader = request.getHeader("Authorization");
 
         // If no Authorization header or doesn't start with "Bearer ", skip this filter
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return "anonymous";
         }
 
         try {
@@ -77,17 +120,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
                 // Check if token is blacklisted (revoked)
-                if (tokenBlacklistService.isTokenBlacklisted(jwt)) {
+                if (blacklistTimer.record(() -> tokenBlacklistService.isTokenBlacklisted(jwt))) {
                     logger.warn("Token is blacklisted (revoked): " + jwt.substring(0, 20) + "...");
-                    filterChain.doFilter(request, response);
-                    return;
+                    return "revoked";
                 }
 
-                // Load user from database
-                User user = userService.getUserByUsername(username);
+                // Load user (cached snapshot of id, username and role)
+                AuthenticatedUser user = userLookupTimer.record(() -> principalCache.get(username));
 
                 // Validate token
-                if (jwtService.isTokenValid(jwt, user)) {
+                if (jwtService.isTokenValid(jwt, user.getUsername())) {
 
                     // Create authentication token with user's role
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -101,16 +143,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     // Set authentication in SecurityContext
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    return "authenticated";
                 }
             }
+            return "invalid";
         } catch (Exception e) {
             // If token validation fails, log and continue without authentication
             // SecurityConfig will reject the request if it's a protected endpoint
             logger.error("JWT authentication failed: " + e.getMessage());
+            return "error";
         }
-
-        // Continue to next filter
-        filterChain.doFilter(request, response);
     }
 }
 
@@ -127,7 +169,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
  *    - Not expired
  *    - User exists in database
  *
- * 4. If valid, user is loaded from database
+ * 4. If valid, user is loaded from PrincipalCache (database only on a miss)
  *
  * 5. Authentication object is created with user details and role
  *
@@ -141,10 +183,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
  *
  * // Get authenticated user
  * Authentication auth = SecurityContextHolder.getContext().getAuthentication();
- * User user = (User) auth.getPrincipal();
+ * AuthenticatedUser user = (AuthenticatedUser) auth.getPrincipal();
  *
  * // Or use @AuthenticationPrincipal annotation
- * public ResponseEntity<?> getProfile(@AuthenticationPrincipal User user) {
+ * public ResponseEntity<?> getProfile(@AuthenticationPrincipal AuthenticatedUser user) {
  *     return ResponseEntity.ok(user);
  * }
  */
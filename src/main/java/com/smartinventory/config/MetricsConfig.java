@@ -0,0 +1,83 @@
+package com.smartinventory.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * MetricsConfig - Micrometer setup (scraped at /actuator/prometheus)
+ *
+ * Meters:
+ * - inventory.service: @Timed ReportService, SaleService and StockService
+ *   methods (tags class, method, exception)
+ * - auth.jwt.filter, auth.jwt.filter.blacklist, auth.jwt.filter.user.lookup:
+ *   JwtAuthenticationFilter and its sub-steps
+ * - http.server.requests and http.server.requests.queries (QueryMetricsFilter)
+ * - report.cache.*, auth.principal.cache.* and auth.revocation.cache.*:
+ *   ReportCache, PrincipalCache and RevokedTokenCache (each a MeterBinder)
+ * - hikaricp.* for both SQLite pools, hibernate.* statistics, jvm.gc.* and
+ *   jvm.memory.* (Spring Boot auto-configuration)
+ *
+ * Percentile histograms are published for the request meters of the URIs
+ * listed in metrics.histogram.uris, so p99 can be computed per endpoint.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Enables @Timed on Spring beans
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Collect statements and their execution time per request (RequestQueryStats)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsCustomizer(QueryCountInspector queryCountInspector) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountInspector);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+        };
+    }
+
+    /**
+     * Histogram buckets for http.server.requests* meters of the configured URIs
+     *
+     * @param uriPatterns - Ant patterns matched against the uri tag, e.g. /api/reports/**
+     */
+    @Bean
+    public MeterFilter endpointHistogramFilter(@Value("${metrics.histogram.uris:}") List<String> uriPatterns) {
+        AntPathMatcher matcher = new AntPathMatcher();
+        List<String> patterns = uriPatterns.stream().map(String::trim).filter(p -> !p.isEmpty()).toList();
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("http.server.requests")) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri != null && patterns.stream().anyMatch(pattern -> matcher.match(pattern, uri))) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
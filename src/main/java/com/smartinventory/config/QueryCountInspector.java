@@ -0,0 +1,25 @@
+package com.smartinventory.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * QueryCountInspector - Reports every SQL statement Hibernate prepares to the
+ * current request's RequestQueryStats
+ *
+ * Registered as Hibernate's statement inspector (MetricsConfig). Statements
+ * outside a request, or on other threads (e.g. ReportPlanner's loaders), are
+ * not counted.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
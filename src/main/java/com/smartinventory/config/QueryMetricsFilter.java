@@ -0,0 +1,69 @@
+package com.smartinventory.config;
+
+import com.smartinventory.service.QueryDiagnostics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * QueryMetricsFilter - Records the SQL statements each request ran
+ *
+ * Binds a RequestQueryStats to the request. Afterwards the statement count is
+ * published as the http.server.requests.queries distribution summary, tagged
+ * like http.server.requests (method and URI pattern), so a request that starts
+ * issuing one query per row shows up per endpoint. QueryDiagnostics checks the
+ * request against the query budgets.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final QueryDiagnostics queryDiagnostics;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public QueryMetricsFilter(QueryDiagnostics queryDiagnostics, MeterRegistry meterRegistry) {
+        this.queryDiagnostics = queryDiagnostics;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+
+            // Set by Spring MVC once a handler was found, e.g. "/api/products/{id}"
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(stats.getQueryCount());
+
+            RequestQueryStats.Shape repeated = stats.getMostRepeated();
+            queryDiagnostics.record(request.getMethod(), uri, stats.getQueryCount(), stats.getTotalNanos(),
+                    repeated != null ? repeated.getSql() : null, repeated != null ? repeated.getCount() : 0);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.smartinventory.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * QueryTimingListener - Adds JDBC execution time to the current request's
+ * RequestQueryStats
+ *
+ * Hibernate creates one instance per session (hibernate.session.events.auto,
+ * see MetricsConfig); a session is only used by one thread at a time.
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    private long executeStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    private void recordExecution() {
+        if (executeStart < 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - executeStart;
+        executeStart = -1;
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementExecuted(nanos);
+        }
+    }
+}
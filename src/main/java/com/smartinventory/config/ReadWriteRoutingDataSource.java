@@ -0,0 +1,33 @@
+package com.smartinventory.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReadWriteRoutingDataSource - Picks the writer or reader pool per connection
+ *
+ * Connections used by a read-write transaction come from the writer pool;
+ * read-only transactions and statements outside any transaction use the reader
+ * pool. Must be wrapped in a LazyConnectionDataSourceProxy (see DataSourceConfig)
+ * so the decision is made on the first statement, after the transaction
+ * manager has published whether the transaction is read-only.
+ *
+ * The decision holds for as long as the EntityManager keeps the connection.
+ * This relies on spring.jpa.open-in-view=false: with an EntityManager bound to
+ * the whole request, a connection obtained by a read outside any transaction
+ * would be reused by a later read-write transaction of the same request, which
+ * would then write through the reader pool.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITE, READ
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean writeTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return writeTransaction ? Route.WRITE : Route.READ;
+    }
+}
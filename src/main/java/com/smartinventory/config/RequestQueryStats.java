@@ -0,0 +1,142 @@
+package com.smartinventory.config;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * RequestQueryStats - SQL statements run by the current HTTP request
+ *
+ * Bound to the request thread by QueryMetricsFilter. QueryCountInspector
+ * reports each statement Hibernate prepares and QueryTimingListener the time
+ * it took to execute, which is added to the last prepared statement (time
+ * spent reading result sets is not included).
+ *
+ * Statements are grouped by shape: the SQL with literals replaced and IN lists
+ * collapsed, so "select ... where id=?" run once per row is one shape with a
+ * high count (the N+1 signature).
+ */
+public class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Shape> shapes = new HashMap<>();
+    private Shape lastShape;
+    private int queryCount;
+    private long totalNanos;
+
+    // ============================================
+    // REQUEST BINDING
+    // ============================================
+
+    /**
+     * Start collecting on the current thread
+     */
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stats of the current request, null outside of a request
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop collecting on the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // ============================================
+    // RECORDING
+    // ============================================
+
+    void statementPrepared(String sql) {
+        queryCount++;
+        lastShape = shapes.computeIfAbsent(shapeOf(sql), Shape::new);
+        lastShape.count++;
+    }
+
+    void statementExecuted(long nanos) {
+        totalNanos += nanos;
+        if (lastShape != null) {
+            lastShape.nanos += nanos;
+        }
+    }
+
+    /**
+     * Normalized form of a statement
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    // ============================================
+    // RESULTS
+    // ============================================
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Every statement shape with its count
+     */
+    public Collection<Shape> getShapes() {
+        return Collections.unmodifiableCollection(shapes.values());
+    }
+
+    /**
+     * The statement shape run most often, null if there were no statements
+     */
+    public Shape getMostRepeated() {
+        Shape most = null;
+        for (Shape shape : shapes.values()) {
+            if (most == null || shape.count > most.count) {
+                most = shape;
+            }
+        }
+        return most;
+    }
+
+    public static class Shape {
+        private final String sql;
+        private int count;
+        private long nanos;
+
+        private Shape(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.smartinventory.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig - Enables @Scheduled background jobs
+ *
+ * Jobs:
+ * - StockReconciliationService: checks product.on_hand against the stock ledger
+ * - TokenBlacklistService: evicts expired entries from the revoked token cache
+ * - TokenPurgeService: deletes expired rows from the auth table in batches
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
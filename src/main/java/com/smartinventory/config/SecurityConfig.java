@@ -1,9 +1,11 @@
 package com.smartinventory.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -34,10 +36,12 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final Environment environment;
 
     @Autowired
-    public SecurityConfig(@Lazy JwtAuthenticationFilter jwtAuthFilter) {
+    public SecurityConfig(@Lazy JwtAuthenticationFilter jwtAuthFilter, Environment environment) {
         this.jwtAuthFilter = jwtAuthFilter;
+        this.environment = environment;
     }
 
     /**
@@ -62,9 +66,12 @@ public class SecurityConfig {
      * - /api/auth/register - User registration
      * - /api/auth/login - User login
      * - /FrontEnd/** - Frontend static files
+     * - /actuator/health and /actuator/prometheus, on the management port only
      *
      * Protected endpoints:
      * - All other /api/** endpoints require authentication
+     * - /actuator/** on any other port requires ADMIN (if management.server.port
+     *   is removed, actuator is served on the API port)
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -91,6 +98,12 @@ public class SecurityConfig {
                         // Frontend static files - allow access
                         .requestMatchers("/FrontEnd/**", "/", "/index.html").permitAll()
 
+                        // Health check and Prometheus scrape endpoint, public on the management port only
+                        .requestMatchers(request -> isManagementPort(request)
+                                && (request.getRequestURI().equals("/actuator/health")
+                                || request.getRequestURI().equals("/actuator/prometheus"))).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // All other API endpoints require authentication
                         .requestMatchers("/api/**").authenticated()
 
@@ -101,6 +114,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Whether the request came in on the separate management port
+     * (local.management.port is only set when it differs from the API port)
+     */
+    private boolean isManagementPort(HttpServletRequest request) {
+        Integer managementPort = environment.getProperty("local.management.port", Integer.class);
+        return managementPort != null && request.getLocalPort() == managementPort;
+    }
+
     /**
      * CORS Configuration
      * Allows frontend to call the API from different domain/port
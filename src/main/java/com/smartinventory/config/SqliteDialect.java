@@ -0,0 +1,32 @@
+package com.smartinventory.config;
+
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * SqliteDialect - SQLiteDialect with type affinity aware schema validation
+ *
+ * SQLite stores every integer column (integer, bigint, boolean) as INTEGER and
+ * every binary column as BLOB, whatever the declared type. The community
+ * dialect compares declared types like other databases do, so
+ * ddl-auto=validate rejects e.g. an "id integer" primary key (the only form
+ * SQLite accepts as a rowid alias) mapped to a Long. Types of the same
+ * storage class are treated as equivalent here.
+ */
+public class SqliteDialect extends SQLiteDialect {
+
+    @Override
+    public boolean equivalentTypes(int typeCode1, int typeCode2) {
+        return super.equivalentTypes(typeCode1, typeCode2)
+                || isIntegerStorage(typeCode1) && isIntegerStorage(typeCode2)
+                || isBlobStorage(typeCode1) && isBlobStorage(typeCode2);
+    }
+
+    private static boolean isIntegerStorage(int typeCode) {
+        return SqlTypes.isIntegral(typeCode) || typeCode == SqlTypes.BOOLEAN;
+    }
+
+    private static boolean isBlobStorage(int typeCode) {
+        return SqlTypes.isBinaryType(typeCode) || typeCode == SqlTypes.BLOB;
+    }
+}
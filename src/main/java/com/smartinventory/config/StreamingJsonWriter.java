@@ -0,0 +1,69 @@
+package com.smartinventory.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * StreamingJsonWriter - Streams a list as a JSON array, row by row
+ *
+ * Used by the ?stream=true mode of the list endpoints (GET /api/stock,
+ * /api/sales, /api/sale-items). The source (a service method reading a
+ * database cursor) passes each row to the writer, which serializes it with a
+ * JsonGenerator straight to the response. Rows are sent in chunks as the
+ * output buffer fills, so the first bytes go out before the last row is read
+ * and the whole list is never held in memory.
+ *
+ * The response is committed once the first chunk is sent: an error after that
+ * ends the response with a truncated (invalid) JSON array.
+ */
+@Component
+public class StreamingJsonWriter {
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public StreamingJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param source - passes every row to the given consumer
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+        boolean pretty = JsonConfig.isPrettyRequested();
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // The servlet container closes the response stream
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (pretty) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                generator.writeStartArray();
+                source.accept(row -> {
+                    try {
+                        generator.writeObject(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,51 @@
+package com.smartinventory.config;
+
+import com.smartinventory.service.DataChangedEvent.Table;
+import com.smartinventory.service.DataVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.EnumSet;
+
+/**
+ * WebConfig - Spring MVC interceptors
+ *
+ * Conditional GET (ConditionalGetInterceptor) for the read-heavy resources.
+ * Each is registered with the tables its responses are read from:
+ * - products: products (incl. stock balances), with their category and supplier
+ * - categories, suppliers: their own table and the products they list
+ * - reports: everything reports are built from, plus the current date
+ *   (cache statistics are excluded, they change on every report request)
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final DataVersions dataVersions;
+
+    @Autowired
+    public WebConfig(DataVersions dataVersions) {
+        this.dataVersions = dataVersions;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersions,
+                        EnumSet.of(Table.PRODUCTS, Table.CATEGORIES, Table.SUPPLIERS), false))
+                .addPathPatterns("/api/products", "/api/products/**");
+
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersions,
+                        EnumSet.of(Table.CATEGORIES, Table.PRODUCTS), false))
+                .addPathPatterns("/api/categories", "/api/categories/**");
+
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersions,
+                        EnumSet.of(Table.SUPPLIERS, Table.PRODUCTS), false))
+                .addPathPatterns("/api/suppliers", "/api/suppliers/**");
+
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersions,
+                        EnumSet.allOf(Table.class), true))
+                .addPathPatterns("/api/reports/**")
+                .excludePathPatterns("/api/reports/cache/**");
+    }
+}
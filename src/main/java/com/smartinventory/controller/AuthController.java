@@ -2,6 +2,7 @@ package com.smartinventory.controller;
 
 import com.smartinventory.model.User;
 import com.smartinventory.service.AuthService;
+import com.smartinventory.service.TokenPurgeService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -10,6 +11,7 @@ import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -24,6 +26,7 @@ import java.util.Map;
  * POST /api/auth/logout - Logout current user
  * POST /api/auth/logout-all - Logout from all devices
  * GET /api/auth/me - Get current user info
+ * GET /api/auth/purge-stats - Expired token purge statistics (ADMIN)
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -31,10 +34,12 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenPurgeService tokenPurgeService;
 
     @Autowired
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, TokenPurgeService tokenPurgeService) {
         this.authService = authService;
+        this.tokenPurgeService = tokenPurgeService;
     }
 
     /**
@@ -263,6 +268,17 @@ public class AuthController {
         }
     }
 
+    /**
+     * GET /api/auth/purge-stats
+     * Statistics of the expired token purge job
+     * Requires ADMIN role
+     */
+    @GetMapping("/purge-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getPurgeStats() {
+        return ResponseEntity.ok(tokenPurgeService.getStats());
+    }
+
     // ============================================
     // REQUEST DTOs (Data Transfer Objects)
     // ============================================
@@ -0,0 +1,62 @@
+package com.smartinventory.controller;
+
+import com.smartinventory.service.QueryDiagnostics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DiagnosticsController - Runtime diagnostics for administrators
+ *
+ * Endpoints (ADMIN only):
+ * GET    /api/diagnostics/queries - Endpoints with the most SQL statements / time per request
+ * DELETE /api/diagnostics/queries - Reset the recorded query statistics
+ */
+@RestController
+@RequestMapping("/api/diagnostics")
+@CrossOrigin(origins = "*")
+public class DiagnosticsController {
+
+    private final QueryDiagnostics queryDiagnostics;
+
+    @Autowired
+    public DiagnosticsController(QueryDiagnostics queryDiagnostics) {
+        this.queryDiagnostics = queryDiagnostics;
+    }
+
+    /**
+     * GET /api/diagnostics/queries?sort=queries&limit=20
+     * Worst offenders by statements per request (sort=queries), SQL time per
+     * request (sort=time) or number of budget / N+1 warnings (sort=violations)
+     */
+    @GetMapping("/queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getQueryOffenders(@RequestParam(defaultValue = "queries") String sort,
+                                               @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(queryDiagnostics.getWorstOffenders(sort, Math.max(limit, 0)));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * DELETE /api/diagnostics/queries
+     * Reset the recorded query statistics
+     */
+    @DeleteMapping("/queries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> resetQueryStats() {
+        queryDiagnostics.reset();
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Query statistics reset");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -15,7 +15,7 @@ import java.util.Map;
  * ProductController - Handles product endpoints
  *
  * Endpoints:
- * GET    /api/products          - Get all products
+ * GET    /api/products?cursor=&limit= - Get products (one page)
  * GET    /api/products/{id}     - Get product by ID
  * GET    /api/products/sku/{sku} - Get product by SKU
  * POST   /api/products          - Create new product
@@ -37,13 +37,21 @@ public class ProductController {
     }
 
     /**
-     * GET /api/products
-     * Get all products
+     * GET /api/products?cursor={next}&limit={n}
+     * Get one page of products: { "items": [...], "next": "...", "limit": n }
+     * "next" is null on the last page.
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(productService.getProductsPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     /**
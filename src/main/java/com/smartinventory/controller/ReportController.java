@@ -1,18 +1,27 @@
 package com.smartinventory.controller;
 
 import com.smartinventory.dto.report.*;
+import com.smartinventory.service.ReportCache;
+import com.smartinventory.service.ReportDataChangedEvent.Kind;
+import com.smartinventory.service.ReportPlanner;
 import com.smartinventory.service.ReportService;
+import com.smartinventory.service.SalesRollupService;
+import com.smartinventory.service.TrendBucket;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ReportController - Handles report and analytics endpoints
@@ -27,17 +36,38 @@ import java.util.Map;
  * GET /api/reports/inventory-stats      - Get inventory statistics
  * GET /api/reports/recommendations      - Get smart recommendations
  * GET /api/reports/full                 - Get all report data at once
+ * POST /api/reports/rollup/rebuild      - Rebuild the daily sales rollup (ADMIN)
+ * GET /api/reports/cache/stats          - Report cache statistics (ADMIN)
+ *
+ * GET results are served from ReportCache. Send "X-Report-Cache: bypass" to
+ * force a fresh computation.
  */
 @RestController
 @RequestMapping("/api/reports")
 @CrossOrigin(origins = "*")
 public class ReportController {
 
+    private static final String CACHE_HEADER = "X-Report-Cache";
+
+    // What each report is built from (decides which writes invalidate it)
+    private static final Set<Kind> SALES = EnumSet.of(Kind.SALES);
+    private static final Set<Kind> STOCK = EnumSet.of(Kind.STOCK);
+    private static final Set<Kind> SALES_AND_STOCK = EnumSet.of(Kind.SALES, Kind.STOCK);
+
     private final ReportService reportService;
+    private final ReportPlanner reportPlanner;
+    private final ReportCache reportCache;
+    private final SalesRollupService salesRollupService;
 
     @Autowired
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService,
+                            ReportPlanner reportPlanner,
+                            ReportCache reportCache,
+                            SalesRollupService salesRollupService) {
         this.reportService = reportService;
+        this.reportPlanner = reportPlanner;
+        this.reportCache = reportCache;
+        this.salesRollupService = salesRollupService;
     }
 
     /**
@@ -51,7 +81,8 @@ public class ReportController {
     @GetMapping("/summary")
     public ResponseEntity<SummaryMetricsDTO> getSummaryMetrics(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
         LocalDateTime start = (startDate != null)
                 ? startDate.atStartOfDay()
@@ -61,7 +92,8 @@ public class ReportController {
                 ? endDate.atTime(LocalTime.MAX)
                 : LocalDateTime.now();
 
-        SummaryMetricsDTO metrics = reportService.getSummaryMetrics(start, end);
+        SummaryMetricsDTO metrics = reportCache.get("summary", startDate, endDate, "", SALES,
+                isBypass(cacheMode), () -> reportService.getSummaryMetrics(start, end));
         return ResponseEntity.ok(metrics);
     }
 
@@ -70,14 +102,25 @@ public class ReportController {
      * Get sales trend data for the last N days
      *
      * @param days Number of days (defaults to 30)
+     * @param bucket Bucket size: day, week or month (defaults to day)
      * @return Sales trend DTO
      */
     @GetMapping("/sales-trend")
-    public ResponseEntity<SalesTrendDTO> getSalesTrend(
-            @RequestParam(defaultValue = "30") int days
+    public ResponseEntity<?> getSalesTrend(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "day") String bucket,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
-        SalesTrendDTO trend = reportService.getSalesTrend(days);
-        return ResponseEntity.ok(trend);
+        try {
+            TrendBucket trendBucket = TrendBucket.fromString(bucket);
+            SalesTrendDTO trend = reportCache.get("sales-trend", null, null, days + ":" + trendBucket, SALES,
+                    isBypass(cacheMode), () -> reportService.getSalesTrend(days, trendBucket));
+            return ResponseEntity.ok(trend);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     /**
@@ -91,7 +134,8 @@ public class ReportController {
     @GetMapping("/product-performance")
     public ResponseEntity<List<ProductPerformanceDTO>> getProductPerformance(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
         LocalDateTime start = (startDate != null)
                 ? startDate.atStartOfDay()
@@ -101,7 +145,8 @@ public class ReportController {
                 ? endDate.atTime(LocalTime.MAX)
                 : LocalDateTime.now();
 
-        List<ProductPerformanceDTO> performance = reportService.getProductPerformance(start, end);
+        List<ProductPerformanceDTO> performance = reportCache.get("product-performance", startDate, endDate, "", SALES,
+                isBypass(cacheMode), () -> reportService.getProductPerformance(start, end));
         return ResponseEntity.ok(performance);
     }
 
@@ -116,7 +161,8 @@ public class ReportController {
     @GetMapping("/category-performance")
     public ResponseEntity<List<CategoryPerformanceDTO>> getCategoryPerformance(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
         LocalDateTime start = (startDate != null)
                 ? startDate.atStartOfDay()
@@ -126,7 +172,8 @@ public class ReportController {
                 ? endDate.atTime(LocalTime.MAX)
                 : LocalDateTime.now();
 
-        List<CategoryPerformanceDTO> performance = reportService.getCategoryPerformance(start, end);
+        List<CategoryPerformanceDTO> performance = reportCache.get("category-performance", startDate, endDate, "", SALES,
+                isBypass(cacheMode), () -> reportService.getCategoryPerformance(start, end));
         return ResponseEntity.ok(performance);
     }
 
@@ -141,7 +188,8 @@ public class ReportController {
     @GetMapping("/supplier-performance")
     public ResponseEntity<List<SupplierPerformanceDTO>> getSupplierPerformance(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
         LocalDateTime start = (startDate != null)
                 ? startDate.atStartOfDay()
@@ -151,7 +199,8 @@ public class ReportController {
                 ? endDate.atTime(LocalTime.MAX)
                 : LocalDateTime.now();
 
-        List<SupplierPerformanceDTO> performance = reportService.getSupplierPerformance(start, end);
+        List<SupplierPerformanceDTO> performance = reportCache.get("supplier-performance", startDate, endDate, "", SALES,
+                isBypass(cacheMode), () -> reportService.getSupplierPerformance(start, end));
         return ResponseEntity.ok(performance);
     }
 
@@ -162,8 +211,11 @@ public class ReportController {
      * @return Stock status DTO
      */
     @GetMapping("/stock-status")
-    public ResponseEntity<StockStatusDTO> getStockStatus() {
-        StockStatusDTO status = reportService.getStockStatus();
+    public ResponseEntity<StockStatusDTO> getStockStatus(
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
+    ) {
+        StockStatusDTO status = reportCache.get("stock-status", null, null, "", STOCK,
+                isBypass(cacheMode), reportService::getStockStatus);
         return ResponseEntity.ok(status);
     }
 
@@ -178,7 +230,8 @@ public class ReportController {
     @GetMapping("/inventory-stats")
     public ResponseEntity<InventoryStatsDTO> getInventoryStats(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
         LocalDateTime start = (startDate != null)
                 ? startDate.atStartOfDay()
@@ -188,7 +241,8 @@ public class ReportController {
                 ? endDate.atTime(LocalTime.MAX)
                 : LocalDateTime.now();
 
-        InventoryStatsDTO stats = reportService.getInventoryStats(start, end);
+        InventoryStatsDTO stats = reportCache.get("inventory-stats", startDate, endDate, "", SALES_AND_STOCK,
+                isBypass(cacheMode), () -> reportService.getInventoryStats(start, end));
         return ResponseEntity.ok(stats);
     }
 
@@ -199,14 +253,18 @@ public class ReportController {
      * @return List of recommendation DTOs
      */
     @GetMapping("/recommendations")
-    public ResponseEntity<List<RecommendationDTO>> getRecommendations() {
-        List<RecommendationDTO> recommendations = reportService.getRecommendations();
+    public ResponseEntity<List<RecommendationDTO>> getRecommendations(
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
+    ) {
+        List<RecommendationDTO> recommendations = reportCache.get("recommendations", null, null, "", SALES_AND_STOCK,
+                isBypass(cacheMode), reportService::getRecommendations);
         return ResponseEntity.ok(recommendations);
     }
 
     /**
      * GET /api/reports/full
      * Get all report data at once (optimized single request)
+     * Sections are loaded and built concurrently, see ReportPlanner.
      *
      * @param startDate Optional start date
      * @param endDate Optional end date
@@ -217,29 +275,45 @@ public class ReportController {
     public ResponseEntity<Map<String, Object>> getFullReport(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(defaultValue = "30") int days
+            @RequestParam(defaultValue = "30") int days,
+            @RequestHeader(value = CACHE_HEADER, required = false) String cacheMode
     ) {
-        LocalDateTime start = (startDate != null)
-                ? startDate.atStartOfDay()
-                : LocalDateTime.now().minusDays(30);
+        Map<String, Object> fullReport = reportCache.get("full", startDate, endDate, String.valueOf(days), SALES_AND_STOCK,
+                isBypass(cacheMode), () -> reportPlanner.getFullReport(startDate, endDate, days));
+        return ResponseEntity.ok(fullReport);
+    }
 
-        LocalDateTime end = (endDate != null)
-                ? endDate.atTime(LocalTime.MAX)
-                : LocalDateTime.now();
+    /**
+     * POST /api/reports/rollup/rebuild
+     * Recompute the daily sales rollup from all existing sales (backfill)
+     *
+     * @return Number of rollup rows written
+     */
+    @PostMapping("/rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildRollup() {
+        int rows = salesRollupService.rebuild();
 
-        Map<String, Object> fullReport = new HashMap<>();
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Daily sales rollup rebuilt");
+        response.put("rows", rows);
+        return ResponseEntity.ok(response);
+    }
 
-        // Get all report data
-        fullReport.put("summary", reportService.getSummaryMetrics(start, end));
-        fullReport.put("salesTrend", reportService.getSalesTrend(days));
-        fullReport.put("productPerformance", reportService.getProductPerformance(start, end));
-        fullReport.put("categoryPerformance", reportService.getCategoryPerformance(start, end));
-        fullReport.put("supplierPerformance", reportService.getSupplierPerformance(start, end));
-        fullReport.put("stockStatus", reportService.getStockStatus());
-        fullReport.put("inventoryStats", reportService.getInventoryStats(start, end));
-        fullReport.put("recommendations", reportService.getRecommendations());
+    /**
+     * GET /api/reports/cache/stats
+     * Report cache statistics (size, hits, misses, bypasses, invalidations, hitRatio)
+     *
+     * @return Cache statistics
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(reportCache.getStats());
+    }
 
-        return ResponseEntity.ok(fullReport);
+    private boolean isBypass(String cacheMode) {
+        return "bypass".equalsIgnoreCase(cacheMode);
     }
 }
 
@@ -255,6 +329,9 @@ public class ReportController {
  * 3. Get sales trend for last 7 days:
  * GET http://localhost:5001/api/reports/sales-trend?days=7
  *
+ *    Or weekly buckets over the last 90 days:
+ * GET http://localhost:5001/api/reports/sales-trend?days=90&bucket=week
+ *
  * 4. Get product performance:
  * GET http://localhost:5001/api/reports/product-performance
  *
@@ -263,4 +340,11 @@ public class ReportController {
  *
  * 6. Get full report with custom range:
  * GET http://localhost:5001/api/reports/full?startDate=2025-01-01&endDate=2025-11-20&days=60
+ *
+ * 7. Backfill the daily sales rollup (admin only):
+ * POST http://localhost:5001/api/reports/rollup/rebuild
+ *
+ * 8. Skip the report cache for one request:
+ * GET http://localhost:5001/api/reports/summary
+ * Header: X-Report-Cache: bypass
  */
@@ -1,5 +1,6 @@
 package com.smartinventory.controller;
 
+import com.smartinventory.config.StreamingJsonWriter;
 import com.smartinventory.model.Sale;
 import com.smartinventory.service.SaleService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +17,8 @@ import java.util.Map;
  * SaleController - Handles sales transaction endpoints
  *
  * Endpoints:
- * GET    /api/sales                 - Get all sales
+ * GET    /api/sales?cursor=&limit=  - Get sales, newest first (one page)
+ * GET    /api/sales?stream=true     - Get all sales with items (streamed JSON array)
  * GET    /api/sales/{id}            - Get sale by ID
  * GET    /api/sales/reference/{ref} - Get sale by reference
  * POST   /api/sales                 - Create new sale
@@ -33,15 +35,29 @@ import java.util.Map;
 public class SaleController {
 
     private final SaleService saleService;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @Autowired
-    public SaleController(SaleService saleService) {
+    public SaleController(SaleService saleService, StreamingJsonWriter streamingJsonWriter) {
         this.saleService = saleService;
+        this.streamingJsonWriter = streamingJsonWriter;
     }
 
     @GetMapping
-    public ResponseEntity<List<Sale>> getAllSales() {
-        return ResponseEntity.ok(saleService.getAllSales());
+    public ResponseEntity<?> getAllSales(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(defaultValue = "false") boolean stream) {
+        if (stream) {
+            return streamingJsonWriter.stream(saleService::streamSales);
+        }
+        try {
+            return ResponseEntity.ok(saleService.getSalesPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     @GetMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.smartinventory.controller;
 
+import com.smartinventory.config.StreamingJsonWriter;
 import com.smartinventory.model.SaleItem;
 import com.smartinventory.service.SaleItemService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,7 +19,8 @@ import java.util.Map;
  * provides additional endpoints for querying and managing individual items.
  *
  * Endpoints:
- * GET    /api/sale-items                - Get all sale items
+ * GET    /api/sale-items?cursor=&limit= - Get sale items, newest first (one page)
+ * GET    /api/sale-items?stream=true    - Get all sale items (streamed JSON array)
  * GET    /api/sale-items/{id}           - Get sale item by ID
  * GET    /api/sale-items/sale/{saleId}  - Get items by sale
  * GET    /api/sale-items/product/{productId} - Get items by product
@@ -35,19 +37,36 @@ import java.util.Map;
 public class SaleItemController {
 
     private final SaleItemService saleItemService;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @Autowired
-    public SaleItemController(SaleItemService saleItemService) {
+    public SaleItemController(SaleItemService saleItemService, StreamingJsonWriter streamingJsonWriter) {
         this.saleItemService = saleItemService;
+        this.streamingJsonWriter = streamingJsonWriter;
     }
 
     /**
-     * GET /api/sale-items
-     * Get all sale items
+     * GET /api/sale-items?cursor={next}&limit={n}
+     * Get one page of sale items, newest first
+     *
+     * GET /api/sale-items?stream=true
+     * Get all sale items as one JSON array, written while they are read
      */
     @GetMapping
-    public ResponseEntity<List<SaleItem>> getAllSaleItems() {
-        return ResponseEntity.ok(saleItemService.getAllSaleItems());
+    public ResponseEntity<?> getAllSaleItems(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(defaultValue = "false") boolean stream) {
+        if (stream) {
+            return streamingJsonWriter.stream(saleItemService::streamSaleItems);
+        }
+        try {
+            return ResponseEntity.ok(saleItemService.getSaleItemsPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     /**
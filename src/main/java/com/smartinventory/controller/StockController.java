@@ -1,5 +1,6 @@
 package com.smartinventory.controller;
 
+import com.smartinventory.config.StreamingJsonWriter;
 import com.smartinventory.model.Stock;
 import com.smartinventory.service.StockService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +16,8 @@ import java.util.Map;
  * StockController - Handles stock movement endpoints
  *
  * Endpoints:
- * GET  /api/stock                    - Get all stock movements
+ * GET  /api/stock?cursor=&limit=     - Get stock movements, newest first (one page)
+ * GET  /api/stock?stream=true        - Get all stock movements (streamed JSON array)
  * GET  /api/stock/{id}               - Get stock movement by ID
  * POST /api/stock/add                - Add stock (incoming)
  * POST /api/stock/remove             - Remove stock (outgoing)
@@ -29,15 +31,29 @@ import java.util.Map;
 public class StockController {
 
     private final StockService stockService;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @Autowired
-    public StockController(StockService stockService) {
+    public StockController(StockService stockService, StreamingJsonWriter streamingJsonWriter) {
         this.stockService = stockService;
+        this.streamingJsonWriter = streamingJsonWriter;
     }
 
     @GetMapping
-    public ResponseEntity<List<Stock>> getAllStockMovements() {
-        return ResponseEntity.ok(stockService.getAllStockMovements());
+    public ResponseEntity<?> getAllStockMovements(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(defaultValue = "false") boolean stream) {
+        if (stream) {
+            return streamingJsonWriter.stream(stockService::streamStockMovements);
+        }
+        try {
+            return ResponseEntity.ok(stockService.getStockMovementsPage(cursor, limit));
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     @GetMapping("/{id}")
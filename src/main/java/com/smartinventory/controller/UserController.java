@@ -1,6 +1,7 @@
 package com.smartinventory.controller;
 
 import com.smartinventory.model.User;
+import com.smartinventory.service.PrincipalCache;
 import com.smartinventory.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -22,6 +23,7 @@ import java.util.Map;
  * PUT    /api/users/{id}     - Update user
  * DELETE /api/users/{id}     - Delete user
  * GET    /api/users/role/{role} - Get users by role
+ * GET    /api/users/principal-cache/stats - Principal cache hit/miss statistics
  */
 @RestController
 @RequestMapping("/api/users")
@@ -29,10 +31,12 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, PrincipalCache principalCache) {
         this.userService = userService;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -154,4 +158,15 @@ public class UserController {
         response.put("count", count);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /api/users/principal-cache/stats
+     * Hit/miss statistics of the cache used by the JWT filter
+     * Requires ADMIN role
+     */
+    @GetMapping("/principal-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getPrincipalCacheStats() {
+        return ResponseEntity.ok(principalCache.getStats());
+    }
+}
@@ -0,0 +1,46 @@
+package com.smartinventory.dto;
+
+import com.smartinventory.model.User;
+
+/**
+ * Immutable snapshot of an authenticated user
+ *
+ * Used as the Spring Security principal instead of the JPA entity, so it can
+ * be cached between requests (see PrincipalCache).
+ */
+public final class AuthenticatedUser {
+    private final Long id;
+    private final String username;
+    private final String role;
+
+    public AuthenticatedUser(Long id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", role='" + role + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,33 @@
+package com.smartinventory.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list
+ *
+ * "next" is an opaque cursor to pass back as ?cursor= for the following page,
+ * or null on the last page.
+ */
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String next;
+    private final int limit;
+
+    public CursorPage(List<T> items, String next, int limit) {
+        this.items = items;
+        this.next = next;
+        this.limit = limit;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
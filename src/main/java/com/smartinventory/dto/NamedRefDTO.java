@@ -0,0 +1,29 @@
+package com.smartinventory.dto;
+
+/**
+ * Reference to a related record in list views: { "id": 1, "name": "..." }
+ */
+public class NamedRefDTO {
+    private final Long id;
+    private final String name;
+
+    public NamedRefDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * @return the reference, or null if there is no related record
+     */
+    public static NamedRefDTO of(Long id, String name) {
+        return id != null ? new NamedRefDTO(id, name) : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,68 @@
+package com.smartinventory.dto;
+
+/**
+ * Product row of the product list (GET /api/products)
+ * Built directly by a JPQL constructor expression (ProductRepository.findListPageAfter).
+ */
+public class ProductListDTO {
+    private final Long id;
+    private final String name;
+    private final String sku;
+    private final String brand;
+    private final Double costPrice;
+    private final Double sellingPrice;
+    private final Integer currentStock;
+    private final NamedRefDTO category;
+    private final NamedRefDTO supplier;
+
+    public ProductListDTO(Long id, String name, String sku, String brand,
+                          Double costPrice, Double sellingPrice, Integer currentStock,
+                          Long categoryId, String categoryName,
+                          Long supplierId, String supplierName) {
+        this.id = id;
+        this.name = name;
+        this.sku = sku;
+        this.brand = brand;
+        this.costPrice = costPrice;
+        this.sellingPrice = sellingPrice;
+        this.currentStock = currentStock;
+        this.category = NamedRefDTO.of(categoryId, categoryName);
+        this.supplier = NamedRefDTO.of(supplierId, supplierName);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public Double getCostPrice() {
+        return costPrice;
+    }
+
+    public Double getSellingPrice() {
+        return sellingPrice;
+    }
+
+    public Integer getCurrentStock() {
+        return currentStock;
+    }
+
+    public NamedRefDTO getCategory() {
+        return category;
+    }
+
+    public NamedRefDTO getSupplier() {
+        return supplier;
+    }
+}
@@ -0,0 +1,65 @@
+package com.smartinventory.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sale row of the sale list (GET /api/sales), with its items
+ * Built by SaleRepository.findListPageBefore; items are added from
+ * SaleItemRepository.findListItemsBySaleIds.
+ */
+public class SaleListDTO {
+    private final Long id;
+    private final String saleReference;
+    private final String status;
+    private final String paymentMethod;
+    private final Double totalAmount;
+    private final LocalDateTime saleDate;
+    private final NamedRefDTO client;
+    private final List<SaleListItemDTO> items = new ArrayList<>();
+
+    public SaleListDTO(Long id, String saleReference, String status, String paymentMethod,
+                       Double totalAmount, LocalDateTime saleDate,
+                       Long clientId, String clientName) {
+        this.id = id;
+        this.saleReference = saleReference;
+        this.status = status;
+        this.paymentMethod = paymentMethod;
+        this.totalAmount = totalAmount;
+        this.saleDate = saleDate;
+        this.client = NamedRefDTO.of(clientId, clientName);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSaleReference() {
+        return saleReference;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public Double getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getSaleDate() {
+        return saleDate;
+    }
+
+    public NamedRefDTO getClient() {
+        return client;
+    }
+
+    public List<SaleListItemDTO> getItems() {
+        return items;
+    }
+}
@@ -0,0 +1,53 @@
+package com.smartinventory.dto;
+
+/**
+ * Sale item row, used inside SaleListDTO and by GET /api/sale-items
+ */
+public class SaleListItemDTO {
+    private final Long id;
+    private final Long saleId;
+    private final NamedRefDTO product;
+    private final Integer quantity;
+    private final Double unitPrice;
+    private final Double discount;
+    private final Double subtotal;
+
+    public SaleListItemDTO(Long id, Long saleId, Long productId, String productName,
+                           Integer quantity, Double unitPrice, Double discount, Double subtotal) {
+        this.id = id;
+        this.saleId = saleId;
+        this.product = NamedRefDTO.of(productId, productName);
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.discount = discount;
+        this.subtotal = subtotal;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSaleId() {
+        return saleId;
+    }
+
+    public NamedRefDTO getProduct() {
+        return product;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Double getUnitPrice() {
+        return unitPrice;
+    }
+
+    public Double getDiscount() {
+        return discount;
+    }
+
+    public Double getSubtotal() {
+        return subtotal;
+    }
+}
@@ -0,0 +1,57 @@
+package com.smartinventory.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stock movement row of the stock list (GET /api/stock)
+ * Built directly by a JPQL constructor expression (StockRepository.findListPageBefore).
+ */
+public class StockListDTO {
+    private final Long id;
+    private final NamedRefDTO product;
+    private final Integer quantity;
+    private final String movementType;
+    private final String reason;
+    private final String reference;
+    private final LocalDateTime createdAt;
+
+    public StockListDTO(Long id, Long productId, String productName, Integer quantity,
+                        String movementType, String reason, String reference,
+                        LocalDateTime createdAt) {
+        this.id = id;
+        this.product = NamedRefDTO.of(productId, productName);
+        this.quantity = quantity;
+        this.movementType = movementType;
+        this.reason = reason;
+        this.reference = reference;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public NamedRefDTO getProduct() {
+        return product;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public String getMovementType() {
+        return movementType;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
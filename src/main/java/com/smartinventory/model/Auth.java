@@ -14,7 +14,12 @@ import java.time.LocalDateTime;
  * I'm including this to match your Python model, but we might not use it.
  */
 @Entity
-@Table(name = "auth")
+@Table(name = "auth", indexes = {
+        // Active sessions of a user (findActiveTokensByUserId)
+        @Index(name = "idx_auth_user_revoked_expires", columnList = "user_id, revoked, expires_at"),
+        // Expired token purge
+        @Index(name = "idx_auth_expires_at", columnList = "expires_at")
+})
 public class Auth {
 
     @Id
@@ -26,9 +31,10 @@ public class Auth {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // The JWT token
-    @Column(nullable = false, length = 1000)
-    private String token;
+    // SHA-256 of the token's jti claim (see JwtService.extractTokenHash)
+    // The JWT itself is not stored.
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     // Token type: "Bearer"
     @Column(name = "token_type", length = 20)
@@ -59,16 +65,16 @@ public class Auth {
     public Auth() {
     }
 
-    public Auth(User user, String token, LocalDateTime expiresAt) {
+    public Auth(User user, byte[] tokenHash, LocalDateTime expiresAt) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
     }
 
-    public Auth(User user, String token, LocalDateTime expiresAt,
+    public Auth(User user, byte[] tokenHash, LocalDateTime expiresAt,
                 String userAgent, String ipAddress) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.userAgent = userAgent;
         this.ipAddress = ipAddress;
@@ -128,12 +134,12 @@ public class Auth {
         this.user = user;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(byte[] tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public String getTokenType() {
@@ -1,5 +1,6 @@
 package com.smartinventory.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,6 +30,8 @@ public class Category {
     // mappedBy = "category" means the Product class has a "category" field
     // CascadeType.ALL = if we delete a category, delete all its products too
     // orphanRemoval = if we remove a product from this list, delete it from DB
+    // Not part of the JSON: products are listed through /api/products
+    @JsonIgnore
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Product> products = new ArrayList<>();
 
@@ -1,5 +1,6 @@
 package com.smartinventory.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -32,6 +33,8 @@ public class Client {
     private String company;
 
     // ONE CLIENT HAS MANY SALES
+    // Not part of the JSON: sales are listed through /api/sales/client/{id}
+    @JsonIgnore
     @OneToMany(mappedBy = "client", cascade = CascadeType.ALL)
     private List<Sale> sales = new ArrayList<>();
 
@@ -77,7 +80,9 @@ public class Client {
 
     /**
      * Calculate total purchases by this client
+     * Needs the sales loaded, so it is not part of the JSON
      */
+    @JsonIgnore
     public Double getTotalPurchases() {
         return sales.stream()
                 .mapToDouble(Sale::getTotalAmount)
@@ -86,7 +91,9 @@ public class Client {
 
     /**
      * Get number of orders placed by this client
+     * Needs the sales loaded, so it is not part of the JSON
      */
+    @JsonIgnore
     public int getOrderCount() {
         return sales.size();
     }
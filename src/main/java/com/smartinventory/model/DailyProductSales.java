@@ -0,0 +1,130 @@
+package com.smartinventory.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * DailyProductSales Entity - Daily sales rollup per product
+ *
+ * One row per (day, product) holding the totals of all PAID sale items sold
+ * that day. SaleService and SaleItemService keep it up to date in the same
+ * transaction as the sale itself, and ReportService reads from it instead of
+ * walking every Sale/SaleItem row.
+ *
+ * The product is stored as a plain id (not a relationship) so the rollup
+ * stays cheap to aggregate. Category and supplier are not stored: reports join
+ * the product's current ones, exactly like the raw sale item queries do, so a
+ * product moved to another category is attributed the same way everywhere.
+ * SalesRollupService.rebuild() recomputes the whole table from raw sales.
+ */
+@Entity
+@Table(name = "daily_product_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_product_sales_day_product",
+                columnNames = {"sale_day", "product_id"}))
+public class DailyProductSales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sale_day", nullable = false)
+    private LocalDate saleDay;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // Units sold
+    @Column(nullable = false)
+    private Long quantity = 0L;
+
+    // Sum of sale item subtotals (cents)
+    @Column(name = "revenue_cents", nullable = false)
+    private Long revenueCents = 0L;
+
+    // Sum of quantity * unit cost (cents)
+    @Column(name = "cost_cents", nullable = false)
+    private Long costCents = 0L;
+
+    // Number of sale item lines
+    @Column(name = "line_count", nullable = false)
+    private Long lineCount = 0L;
+
+    // ============================================
+    // CONSTRUCTORS
+    // ============================================
+
+    public DailyProductSales() {
+    }
+
+    // ============================================
+    // GETTERS AND SETTERS
+    // ============================================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getSaleDay() {
+        return saleDay;
+    }
+
+    public void setSaleDay(LocalDate saleDay) {
+        this.saleDay = saleDay;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getRevenueCents() {
+        return revenueCents;
+    }
+
+    public void setRevenueCents(Long revenueCents) {
+        this.revenueCents = revenueCents;
+    }
+
+    public Long getCostCents() {
+        return costCents;
+    }
+
+    public void setCostCents(Long costCents) {
+        this.costCents = costCents;
+    }
+
+    public Long getLineCount() {
+        return lineCount;
+    }
+
+    public void setLineCount(Long lineCount) {
+        this.lineCount = lineCount;
+    }
+
+    @Override
+    public String toString() {
+        return "DailyProductSales{" +
+                "saleDay=" + saleDay +
+                ", productId=" + productId +
+                ", quantity=" + quantity +
+                ", revenueCents=" + revenueCents +
+                ", costCents=" + costCents +
+                ", lineCount=" + lineCount +
+                '}';
+    }
+}
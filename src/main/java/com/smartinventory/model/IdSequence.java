@@ -0,0 +1,62 @@
+package com.smartinventory.model;
+
+import jakarta.persistence.*;
+
+/**
+ * IdSequence Entity - Named number sequences
+ *
+ * Each row holds the next unreserved value of a sequence (e.g. "sale_reference").
+ * Allocators reserve whole blocks by advancing next_value and then hand the
+ * numbers out from memory.
+ */
+@Entity
+@Table(name = "id_sequence")
+public class IdSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    // ============================================
+    // CONSTRUCTORS
+    // ============================================
+
+    public IdSequence() {
+    }
+
+    public IdSequence(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // ============================================
+    // GETTERS AND SETTERS
+    // ============================================
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(Long nextValue) {
+        this.nextValue = nextValue;
+    }
+
+    @Override
+    public String toString() {
+        return "IdSequence{" +
+                "name='" + name + '\'' +
+                ", nextValue=" + nextValue +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+package com.smartinventory.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money - Conversions between prices and integer cents
+ *
+ * Prices are still exposed as Double by the entities (API compatibility), but
+ * every price that reports aggregate is also stored as a long number of cents
+ * (the *_cents columns). Sums over cents are exact and need no allocation;
+ * BigDecimal is only created for the final values returned to clients.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /**
+     * Convert a price to cents (rounded half up), null stays null
+     */
+    public static Long toCents(Double amount) {
+        if (amount == null) {
+            return null;
+        }
+        return BigDecimal.valueOf(amount)
+                .setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * Convert cents to an amount with two decimals
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartinventory.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -12,7 +13,10 @@ import java.util.List;
  * It has relationships with Category, Supplier, Stock, and SaleItem.
  */
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_category", columnList = "category_id"),
+        @Index(name = "idx_product_supplier", columnList = "supplier_id")
+})
 public class Product {
 
     @Id
@@ -39,6 +43,13 @@ public class Product {
     @Column(name = "selling_price")
     private Double sellingPrice;
 
+    // Same prices in integer cents, kept in sync by the setters (see Money)
+    @Column(name = "cost_price_cents")
+    private Long costPriceCents;
+
+    @Column(name = "selling_price_cents")
+    private Long sellingPriceCents;
+
     // MANY PRODUCTS BELONG TO ONE CATEGORY
     // This creates the relationship: Product → Category
     // @JoinColumn specifies the foreign key column name
@@ -51,11 +62,21 @@ public class Product {
     @JoinColumn(name = "supplier_id")
     private Supplier supplier;
 
+    // Running stock balance = SUM(stock.quantity)
+    // Maintained only by StockService through atomic SQL updates, so it is never
+    // written from the entity (insertable/updatable = false)
+    @Column(name = "on_hand", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    private Integer onHand = 0;
+
     // ONE PRODUCT HAS MANY STOCK RECORDS (stock movements)
+    // Not part of the JSON: movements are listed through /api/stock/product/{id}
+    @JsonIgnore
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Stock> stocks = new ArrayList<>();
 
     // ONE PRODUCT CAN BE IN MANY SALE ITEMS
+    @JsonIgnore
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     private List<SaleItem> saleItems = new ArrayList<>();
 
@@ -78,8 +99,8 @@ public class Product {
         this.description = description;
         this.brand = brand;
         this.sku = sku;
-        this.costPrice = costPrice;
-        this.sellingPrice = sellingPrice;
+        setCostPrice(costPrice);
+        setSellingPrice(sellingPrice);
     }
 
     // ============================================
@@ -102,13 +123,11 @@ public class Product {
     // ============================================
 
     /**
-     * Calculate current stock quantity from all stock movements
+     * Current stock quantity (the persisted running balance of all stock movements)
      * @return total quantity in stock
      */
     public int getCurrentStock() {
-        return stocks.stream()
-                .mapToInt(Stock::getQuantity)
-                .sum();
+        return onHand != null ? onHand : 0;
     }
 
     /**
@@ -180,6 +199,7 @@ public class Product {
 
     public void setCostPrice(Double costPrice) {
         this.costPrice = costPrice;
+        this.costPriceCents = Money.toCents(costPrice);
     }
 
     public Double getSellingPrice() {
@@ -188,6 +208,28 @@ public class Product {
 
     public void setSellingPrice(Double sellingPrice) {
         this.sellingPrice = sellingPrice;
+        this.sellingPriceCents = Money.toCents(sellingPrice);
+    }
+
+    // Reporting only; clients see the Double prices
+    @JsonIgnore
+    public Long getCostPriceCents() {
+        return costPriceCents;
+    }
+
+    @JsonIgnore
+    public Long getSellingPriceCents() {
+        return sellingPriceCents;
+    }
+
+    // Exposed to clients as currentStock
+    @JsonIgnore
+    public Integer getOnHand() {
+        return onHand;
+    }
+
+    public void setOnHand(Integer onHand) {
+        this.onHand = onHand;
     }
 
     public Category getCategory() {
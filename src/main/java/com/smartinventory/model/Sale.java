@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Sale Entity - Sales transactions
@@ -11,7 +12,19 @@ import java.util.List;
  * Represents a sale order containing multiple items.
  */
 @Entity
-@Table(name = "sale")
+@Table(name = "sale", indexes = {
+        // Paid sales in a date range (reports, calculateTotalSales)
+        @Index(name = "idx_sale_status_date", columnList = "status, sale_date"),
+        @Index(name = "idx_sale_sale_date", columnList = "sale_date"),
+        @Index(name = "idx_sale_client", columnList = "client_id")
+})
+// Sale with its items and their products in one query (status changes and
+// cancellations walk every item and its product)
+@NamedEntityGraph(
+        name = "Sale.itemsWithProducts",
+        attributeNodes = @NamedAttributeNode(value = "items", subgraph = "items"),
+        subgraphs = @NamedSubgraph(name = "items", attributeNodes = @NamedAttributeNode("product"))
+)
 public class Sale {
 
     @Id
@@ -188,8 +201,11 @@ public class Sale {
         return status;
     }
 
+    /**
+     * Stored in upper case: the reports filter on status = 'PAID'
+     */
     public void setStatus(String status) {
-        this.status = status;
+        this.status = status != null ? status.toUpperCase(Locale.ROOT) : null;
     }
 
     public String getPaymentMethod() {
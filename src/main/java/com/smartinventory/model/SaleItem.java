@@ -1,5 +1,6 @@
 package com.smartinventory.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -10,7 +11,10 @@ import java.time.LocalDateTime;
  * For example: "2x Laptop @ $1000 each = $2000"
  */
 @Entity
-@Table(name = "sale_item")
+@Table(name = "sale_item", indexes = {
+        @Index(name = "idx_sale_item_sale", columnList = "sale_id"),
+        @Index(name = "idx_sale_item_product", columnList = "product_id")
+})
 public class SaleItem {
 
     @Id
@@ -18,6 +22,8 @@ public class SaleItem {
     private Long id;
 
     // MANY SALE ITEMS BELONG TO ONE SALE
+    // Not part of the JSON: the sale contains its items, not the other way round
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "sale_id", nullable = false)
     private Sale sale;
@@ -35,10 +41,22 @@ public class SaleItem {
     @Column(name = "unit_price", nullable = false)
     private Double unitPrice;
 
+    // Unit cost at the time of sale (captured so reports don't change when cost prices do)
+    @Column(name = "unit_cost")
+    private Double unitCost;
+
+    // Unit cost in integer cents (see Money), kept in sync by setUnitCost
+    @Column(name = "unit_cost_cents")
+    private Long unitCostCents;
+
     // Subtotal = quantity * unitPrice (calculated automatically)
     @Column(nullable = false)
     private Double subtotal;
 
+    // Subtotal in integer cents, kept in sync with subtotal
+    @Column(name = "subtotal_cents", nullable = false)
+    private Long subtotalCents = 0L;
+
     // Discount applied to this item (optional)
     @Column
     private Double discount = 0.0;
@@ -97,6 +115,7 @@ public class SaleItem {
                 total -= discount;
             }
             this.subtotal = total;
+            this.subtotalCents = Money.toCents(total);
         }
     }
 
@@ -157,12 +176,33 @@ public class SaleItem {
         calculateSubtotal();
     }
 
+    public Double getUnitCost() {
+        return unitCost;
+    }
+
+    public void setUnitCost(Double unitCost) {
+        this.unitCost = unitCost;
+        this.unitCostCents = Money.toCents(unitCost);
+    }
+
     public Double getSubtotal() {
         return subtotal;
     }
 
     public void setSubtotal(Double subtotal) {
         this.subtotal = subtotal;
+        this.subtotalCents = subtotal != null ? Money.toCents(subtotal) : 0L;
+    }
+
+    // Reporting only; clients see unitCost and subtotal
+    @JsonIgnore
+    public Long getUnitCostCents() {
+        return unitCostCents;
+    }
+
+    @JsonIgnore
+    public Long getSubtotalCents() {
+        return subtotalCents;
     }
 
     public Double getDiscount() {
@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
  * - Negative quantity = stock removed (sale, damage)
  */
 @Entity
-@Table(name = "stock")
+@Table(name = "stock", indexes = {
+        // Movements of a product (calculateTotalStock, history by date range)
+        @Index(name = "idx_stock_product_created", columnList = "product_id, created_at"),
+        @Index(name = "idx_stock_created_at", columnList = "created_at")
+})
 public class Stock {
 
     @Id
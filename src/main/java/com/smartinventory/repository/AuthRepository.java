@@ -3,7 +3,9 @@ package com.smartinventory.repository;
 import com.smartinventory.model.Auth;
 import com.smartinventory.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,10 +22,10 @@ import java.util.Optional;
 public interface AuthRepository extends JpaRepository<Auth, Long> {
 
     /**
-     * Find auth token by token string
-     * Query: SELECT * FROM auth WHERE token = ?
+     * Find auth token by token hash (see JwtService.extractTokenHash)
+     * Query: SELECT * FROM auth WHERE token_hash = ?
      */
-    Optional<Auth> findByToken(String token);
+    Optional<Auth> findByTokenHash(byte[] tokenHash);
 
     /**
      * Find all tokens for a user
@@ -39,17 +41,20 @@ public interface AuthRepository extends JpaRepository<Auth, Long> {
 
     /**
      * Find active (non-revoked, non-expired) tokens for a user
+     *
+     * Note: expires_at is stored as epoch millis, so "now" is bound as a
+     * parameter; comparing against CURRENT_TIMESTAMP (text) never matches.
      */
     @Query("SELECT a FROM Auth a WHERE a.user.id = :userId " +
             "AND a.revoked = false " +
-            "AND a.expiresAt > CURRENT_TIMESTAMP")
-    List<Auth> findActiveTokensByUserId(Long userId);
+            "AND a.expiresAt > :now")
+    List<Auth> findActiveTokensByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 
     /**
      * Find expired tokens
      */
-    @Query("SELECT a FROM Auth a WHERE a.expiresAt < CURRENT_TIMESTAMP")
-    List<Auth> findExpiredTokens();
+    @Query("SELECT a FROM Auth a WHERE a.expiresAt < :now")
+    List<Auth> findExpiredTokens(@Param("now") LocalDateTime now);
 
     /**
      * Find revoked tokens
@@ -57,19 +62,33 @@ public interface AuthRepository extends JpaRepository<Auth, Long> {
      */
     List<Auth> findByRevokedTrue();
 
+    /**
+     * Find revoked tokens that have not expired yet
+     * Returns rows: [tokenHash, expiresAt]
+     */
+    @Query("SELECT a.tokenHash, a.expiresAt FROM Auth a " +
+            "WHERE a.revoked = true " +
+            "AND a.expiresAt > :now")
+    List<Object[]> findRevokedUnexpiredTokens(@Param("now") LocalDateTime now);
+
     /**
      * Check if token exists and is valid
      */
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Auth a " +
-            "WHERE a.token = :token " +
+            "WHERE a.tokenHash = :tokenHash " +
             "AND a.revoked = false " +
-            "AND a.expiresAt > CURRENT_TIMESTAMP")
-    boolean isTokenValid(String token);
+            "AND a.expiresAt > :now")
+    boolean isTokenValid(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
 
     /**
-     * Delete expired tokens (cleanup)
+     * Delete up to batchSize tokens that expired before the cutoff (cleanup)
+     * Runs as a single statement; call repeatedly until it returns less than batchSize.
      */
-    void deleteByExpiresAtBefore(LocalDateTime dateTime);
+    @Modifying
+    @Query(value = "DELETE FROM auth WHERE id IN " +
+            "(SELECT id FROM auth WHERE expires_at < :cutoff LIMIT :batchSize)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 
     /**
      * Delete all tokens for a user (logout from all devices)
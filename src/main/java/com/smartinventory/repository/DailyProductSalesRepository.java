@@ -0,0 +1,105 @@
+package com.smartinventory.repository;
+
+import com.smartinventory.model.DailyProductSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DailyProductSalesRepository - Database access for the daily sales rollup
+ *
+ * sqlite-jdbc stores dates and timestamps as epoch milliseconds, so the native
+ * queries below convert them with 'unixepoch' / 'localtime' when they need a
+ * calendar day.
+ */
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, Long> {
+
+    /**
+     * Local calendar day of a sale, as epoch milliseconds of local midnight
+     * (the same value Hibernate binds for a LocalDate parameter)
+     */
+    String SALE_DAY_MILLIS =
+            "CAST(strftime('%s', date(s.sale_date / 1000, 'unixepoch', 'localtime'), 'utc') AS INTEGER) * 1000";
+
+    /**
+     * Add a delta to the rollup row of (day, product), creating it if needed
+     * Negative values reverse a previously recorded sale. Amounts are in cents.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_product_sales " +
+            "(sale_day, product_id, quantity, revenue_cents, cost_cents, line_count) " +
+            "VALUES (:saleDay, :productId, :quantity, :revenueCents, :costCents, :lineCount) " +
+            "ON CONFLICT (sale_day, product_id) DO UPDATE SET " +
+            "quantity = quantity + excluded.quantity, " +
+            "revenue_cents = revenue_cents + excluded.revenue_cents, " +
+            "cost_cents = cost_cents + excluded.cost_cents, " +
+            "line_count = line_count + excluded.line_count",
+            nativeQuery = true)
+    void addToDay(
+            @Param("saleDay") LocalDate saleDay,
+            @Param("productId") Long productId,
+            @Param("quantity") long quantity,
+            @Param("revenueCents") long revenueCents,
+            @Param("costCents") long costCents,
+            @Param("lineCount") long lineCount
+    );
+
+    /**
+     * Recompute the whole rollup from PAID sales (used after deleteAllInBatch)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_product_sales " +
+            "(sale_day, product_id, quantity, revenue_cents, cost_cents, line_count) " +
+            "SELECT " + SALE_DAY_MILLIS + " AS day, si.product_id, " +
+            "SUM(si.quantity), SUM(si.subtotal_cents), " +
+            "COALESCE(SUM(si.quantity * COALESCE(si.unit_cost_cents, p.cost_price_cents)), 0), COUNT(*) " +
+            "FROM sale_item si " +
+            "JOIN sale s ON s.id = si.sale_id " +
+            "JOIN product p ON p.id = si.product_id " +
+            "WHERE s.status = 'PAID' " +
+            "GROUP BY day, si.product_id",
+            nativeQuery = true)
+    int rebuildFromSales();
+
+    /**
+     * Totals per product for a range of whole days
+     * Returns rows: [productId, categoryId, supplierId, quantity, revenueCents, costCents, lineCount]
+     * Category and supplier are the product's current ones, like in
+     * SaleItemRepository.sumPaidByProductBetween.
+     */
+    @Query("SELECT d.productId, c.id, sup.id, " +
+            "SUM(d.quantity), SUM(d.revenueCents), SUM(d.costCents), SUM(d.lineCount) " +
+            "FROM DailyProductSales d " +
+            "LEFT JOIN Product p ON p.id = d.productId " +
+            "LEFT JOIN p.category c " +
+            "LEFT JOIN p.supplier sup " +
+            "WHERE d.saleDay BETWEEN :startDay AND :endDay " +
+            "GROUP BY d.productId, c.id, sup.id")
+    List<Object[]> sumByProductBetween(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
+    /**
+     * Aggregate the rollup into trend buckets (see TrendBucket)
+     * Returns one row per non-empty bucket: [bucket start (yyyy-MM-dd), revenueCents, costCents]
+     */
+    @Query(value = "SELECT date(d.sale_day / 1000, 'unixepoch', 'localtime', :startModifier, :alignModifier) AS bucket, " +
+            "SUM(d.revenue_cents) AS revenue_cents, SUM(d.cost_cents) AS cost_cents " +
+            "FROM daily_product_sales d " +
+            "WHERE d.sale_day BETWEEN :startDay AND :endDay " +
+            "GROUP BY bucket ORDER BY bucket",
+            nativeQuery = true)
+    List<Object[]> aggregateTrend(
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay,
+            @Param("startModifier") String startModifier,
+            @Param("alignModifier") String alignModifier
+    );
+}
@@ -0,0 +1,42 @@
+package com.smartinventory.repository;
+
+import com.smartinventory.model.IdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * IdSequenceRepository - Database access for named number sequences
+ */
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    /**
+     * Get the next unreserved value of a sequence
+     * Query: SELECT next_value FROM id_sequence WHERE name = ?
+     */
+    @Query("SELECT s.nextValue FROM IdSequence s WHERE s.name = :name")
+    Optional<Long> findNextValue(@Param("name") String name);
+
+    /**
+     * Reserve a block of values by advancing the sequence
+     * Query: UPDATE id_sequence SET next_value = next_value + ? WHERE name = ?
+     *
+     * @return 1 if the sequence exists, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE IdSequence s SET s.nextValue = s.nextValue + :count WHERE s.name = :name")
+    int advance(@Param("name") String name, @Param("count") long count);
+
+    /**
+     * Create a sequence unless it already exists
+     */
+    @Modifying
+    @Query(value = "INSERT OR IGNORE INTO id_sequence (name, next_value) VALUES (:name, :nextValue)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("nextValue") long nextValue);
+}
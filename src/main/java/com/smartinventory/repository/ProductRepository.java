@@ -3,7 +3,10 @@ package com.smartinventory.repository;
 import com.smartinventory.model.Product;
 import com.smartinventory.model.Category;
 import com.smartinventory.model.Supplier;
+import com.smartinventory.dto.ProductListDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -85,10 +88,9 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
      * Custom query to find low stock products
-     * This uses a native SQL query because calculating stock requires joining Stock table
+     * Uses the persisted on_hand balance instead of summing the Stock table
      */
-    @Query("SELECT p FROM Product p WHERE " +
-            "(SELECT SUM(s.quantity) FROM Stock s WHERE s.product = p) < :threshold")
+    @Query("SELECT p FROM Product p WHERE p.onHand < :threshold")
     List<Product> findLowStockProducts(@Param("threshold") int threshold);
 
     /**
@@ -97,6 +99,83 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.stocks IS EMPTY")
     List<Product> findProductsWithNoStock();
 
+    /**
+     * Get the stock balance of a product
+     * Query: SELECT on_hand FROM product WHERE id = ?
+     */
+    @Query("SELECT p.onHand FROM Product p WHERE p.id = :productId")
+    Optional<Integer> findOnHandById(@Param("productId") Long productId);
+
+    /**
+     * Atomically add a (positive or negative) delta to a product's stock balance
+     * Query: UPDATE product SET on_hand = on_hand + ? WHERE id = ?
+     */
+    @Modifying
+    @Query(value = "UPDATE product SET on_hand = on_hand + :delta WHERE id = :productId", nativeQuery = true)
+    int adjustOnHand(@Param("productId") Long productId, @Param("delta") int delta);
+
+    /**
+     * Atomically take stock out of a product's balance, only if enough is on hand
+     * Query: UPDATE product SET on_hand = on_hand - ? WHERE id = ? AND on_hand >= ?
+     *
+     * @return 1 if the stock was reserved, 0 if there was not enough (or no such product)
+     */
+    @Modifying
+    @Query(value = "UPDATE product SET on_hand = on_hand - :quantity " +
+            "WHERE id = :productId AND on_hand >= :quantity",
+            nativeQuery = true)
+    int reserveStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * Find products whose stock balance differs from the stock ledger
+     * Returns rows: [productId, onHand, ledgerTotal]
+     */
+    @Query(value = "SELECT p.id, p.on_hand, COALESCE(SUM(s.quantity), 0) AS ledger " +
+            "FROM product p LEFT JOIN stock s ON s.product_id = p.id " +
+            "GROUP BY p.id, p.on_hand " +
+            "HAVING p.on_hand <> COALESCE(SUM(s.quantity), 0)",
+            nativeQuery = true)
+    List<Object[]> findOnHandMismatches();
+
+    /**
+     * Reset a product's stock balance to the sum of its stock ledger
+     */
+    @Modifying
+    @Query(value = "UPDATE product SET on_hand = " +
+            "(SELECT COALESCE(SUM(s.quantity), 0) FROM stock s WHERE s.product_id = product.id) " +
+            "WHERE id = :productId",
+            nativeQuery = true)
+    int resetOnHandFromLedger(@Param("productId") Long productId);
+
+    /**
+     * Total units in stock across all products
+     */
+    @Query("SELECT COALESCE(SUM(p.onHand), 0) FROM Product p")
+    Long sumOnHand();
+
+    /**
+     * Total inventory value (stock balance * cost price)
+     */
+    @Query("SELECT COALESCE(SUM(p.onHand * p.costPrice), 0) FROM Product p WHERE p.costPrice IS NOT NULL")
+    Double calculateInventoryValue();
+
+    /**
+     * Total inventory value in cents (exact, used by reports)
+     */
+    @Query("SELECT COALESCE(SUM(p.onHand * p.costPriceCents), 0) FROM Product p WHERE p.costPriceCents IS NOT NULL")
+    Long calculateInventoryValueCents();
+
+    /**
+     * Count products by stock level in one pass
+     * Returns a single row: [inStock (>= threshold), lowStock (1..threshold-1), outOfStock (<= 0)]
+     */
+    @Query("SELECT " +
+            "COALESCE(SUM(CASE WHEN p.onHand >= :threshold THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.onHand > 0 AND p.onHand < :threshold THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.onHand <= 0 THEN 1 ELSE 0 END), 0) " +
+            "FROM Product p")
+    List<Object[]> countByStockLevel(@Param("threshold") int threshold);
+
     /**
      * Search products by multiple criteria
      */
@@ -105,4 +184,22 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             "LOWER(p.brand) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
             "LOWER(p.sku) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Product> searchProducts(@Param("searchTerm") String searchTerm);
-}
\ No newline at end of file
+
+    // ============================================
+    // LIST VIEWS (keyset pagination, see PaginationSupport)
+    // ============================================
+
+    /**
+     * One page of the product list, ordered by id (pass afterId = 0 for the first page)
+     * Single query, only the columns the list shows.
+     */
+    @Query("SELECT new com.smartinventory.dto.ProductListDTO(" +
+            "p.id, p.name, p.sku, p.brand, p.costPrice, p.sellingPrice, p.onHand, " +
+            "c.id, c.name, sup.id, sup.name) " +
+            "FROM Product p " +
+            "LEFT JOIN p.category c " +
+            "LEFT JOIN p.supplier sup " +
+            "WHERE p.id > :afterId " +
+            "ORDER BY p.id ASC")
+    List<ProductListDTO> findListPageAfter(@Param("afterId") long afterId, Pageable pageable);
+}
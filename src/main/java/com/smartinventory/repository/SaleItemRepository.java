@@ -3,12 +3,19 @@ package com.smartinventory.repository;
 import com.smartinventory.model.SaleItem;
 import com.smartinventory.model.Sale;
 import com.smartinventory.model.Product;
+import com.smartinventory.dto.SaleListItemDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * SaleItemRepository - Database access for SaleItem entity
@@ -54,6 +61,26 @@ public interface SaleItemRepository extends JpaRepository<SaleItem, Long> {
             "WHERE si.product.id = :productId")
     Double calculateTotalRevenueByProduct(@Param("productId") Long productId);
 
+    /**
+     * Totals per product over PAID sales in a date range
+     * Returns rows: [productId, categoryId, supplierId, quantity, revenueCents, costCents, lineCount]
+     * Cost uses the unit cost captured on the item, falling back to the product's cost price.
+     */
+    @Query("SELECT p.id, c.id, sup.id, " +
+            "SUM(si.quantity), SUM(si.subtotalCents), " +
+            "SUM(si.quantity * COALESCE(si.unitCostCents, p.costPriceCents)), COUNT(si) " +
+            "FROM SaleItem si " +
+            "JOIN si.sale s " +
+            "JOIN si.product p " +
+            "LEFT JOIN p.category c " +
+            "LEFT JOIN p.supplier sup " +
+            "WHERE s.status = 'PAID' AND s.saleDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY p.id, c.id, sup.id")
+    List<Object[]> sumPaidByProductBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     /**
      * Find top selling products
      */
@@ -73,4 +100,53 @@ public interface SaleItemRepository extends JpaRepository<SaleItem, Long> {
      */
     @Query("SELECT COALESCE(SUM(si.discount), 0) FROM SaleItem si")
     Double calculateTotalDiscounts();
-}
\ No newline at end of file
+
+    // ============================================
+    // LIST VIEWS (keyset pagination, see PaginationSupport)
+    // ============================================
+
+    /**
+     * One page of sale items, newest first (pass Long.MAX_VALUE for the first page)
+     */
+    @Query("SELECT new com.smartinventory.dto.SaleListItemDTO(" +
+            "i.id, i.sale.id, p.id, p.name, i.quantity, i.unitPrice, i.discount, i.subtotal) " +
+            "FROM SaleItem i " +
+            "JOIN i.product p " +
+            "WHERE i.id < :beforeId " +
+            "ORDER BY i.id DESC")
+    List<SaleListItemDTO> findListPageBefore(@Param("beforeId") long beforeId, Pageable pageable);
+
+    /**
+     * Items of a page of sales (SaleRepository.findListPageBefore), in one query
+     */
+    @Query("SELECT new com.smartinventory.dto.SaleListItemDTO(" +
+            "i.id, i.sale.id, p.id, p.name, i.quantity, i.unitPrice, i.discount, i.subtotal) " +
+            "FROM SaleItem i " +
+            "JOIN i.product p " +
+            "WHERE i.sale.id IN :saleIds " +
+            "ORDER BY i.id ASC")
+    List<SaleListItemDTO> findListItemsBySaleIds(@Param("saleIds") List<Long> saleIds);
+
+    /**
+     * All sale items, newest first, read row by row (SaleItemService.streamSaleItems)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.smartinventory.dto.SaleListItemDTO(" +
+            "i.id, i.sale.id, p.id, p.name, i.quantity, i.unitPrice, i.discount, i.subtotal) " +
+            "FROM SaleItem i " +
+            "JOIN i.product p " +
+            "ORDER BY i.id DESC")
+    Stream<SaleListItemDTO> streamList();
+
+    /**
+     * All sale items grouped by sale, newest sale first (items in id order),
+     * read row by row alongside SaleRepository.streamList
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.smartinventory.dto.SaleListItemDTO(" +
+            "i.id, i.sale.id, p.id, p.name, i.quantity, i.unitPrice, i.discount, i.subtotal) " +
+            "FROM SaleItem i " +
+            "JOIN i.product p " +
+            "ORDER BY i.sale.id DESC, i.id ASC")
+    Stream<SaleListItemDTO> streamListItemsBySaleDesc();
+}
@@ -2,14 +2,21 @@ package com.smartinventory.repository;
 
 import com.smartinventory.model.Sale;
 import com.smartinventory.model.Client;
+import com.smartinventory.dto.SaleListDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * SaleRepository - Database access for Sale entity
@@ -18,9 +25,10 @@ import java.util.Optional;
 public interface SaleRepository extends JpaRepository<Sale, Long> {
 
     /**
-     * Find sale by reference number
-     * Query: SELECT * FROM sale WHERE sale_reference = ?
+     * Find sale by reference number, with its items and their products
+     * Query: SELECT * FROM sale LEFT JOIN sale_item LEFT JOIN product WHERE sale_reference = ?
      */
+    @EntityGraph("Sale.itemsWithProducts")
     Optional<Sale> findBySaleReference(String saleReference);
 
     /**
@@ -29,6 +37,21 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
      */
     boolean existsBySaleReference(String saleReference);
 
+    /**
+     * Find sale by ID with its items and their products (entity graph "Sale.itemsWithProducts")
+     * Query: SELECT * FROM sale LEFT JOIN sale_item LEFT JOIN product WHERE sale.id = ?
+     */
+    @EntityGraph("Sale.itemsWithProducts")
+    Optional<Sale> findWithItemsById(Long id);
+
+    /**
+     * Highest number used by a generated reference (SALE-000123 -> 123), 0 if none
+     */
+    @Query(value = "SELECT COALESCE(MAX(CAST(SUBSTR(sale_reference, 6) AS INTEGER)), 0) FROM sale " +
+            "WHERE sale_reference LIKE 'SALE-%'",
+            nativeQuery = true)
+    Long findMaxGeneratedReferenceNumber();
+
     /**
      * Find sales by client
      * Query: SELECT * FROM sale WHERE client_id = ?
@@ -59,6 +82,17 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
      */
     List<Sale> findBySaleDateBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    /**
+     * Count paid sales in a date range
+     * Query: SELECT COUNT(*) FROM sale WHERE status = 'PAID' AND sale_date BETWEEN ? AND ?
+     */
+    @Query("SELECT COUNT(s) FROM Sale s " +
+            "WHERE s.status = 'PAID' AND s.saleDate BETWEEN :startDate AND :endDate")
+    long countPaidSalesBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     /**
      * Find sales created between dates
      * Query: SELECT * FROM sale WHERE created_at BETWEEN ? AND ?
@@ -122,4 +156,34 @@ public interface SaleRepository extends JpaRepository<Sale, Long> {
             @Param("year") int year,
             @Param("month") int month
     );
-}
\ No newline at end of file
+
+    // ============================================
+    // LIST VIEWS (keyset pagination, see PaginationSupport)
+    // ============================================
+
+    /**
+     * One page of the sale list, newest first (pass Long.MAX_VALUE for the first page)
+     * Items are loaded separately with SaleItemRepository.findListItemsBySaleIds.
+     */
+    @Query("SELECT new com.smartinventory.dto.SaleListDTO(" +
+            "s.id, s.saleReference, s.status, s.paymentMethod, s.totalAmount, s.saleDate, " +
+            "c.id, c.name) " +
+            "FROM Sale s " +
+            "LEFT JOIN s.client c " +
+            "WHERE s.id < :beforeId " +
+            "ORDER BY s.id DESC")
+    List<SaleListDTO> findListPageBefore(@Param("beforeId") long beforeId, Pageable pageable);
+
+    /**
+     * The whole sale list, newest first, read row by row (SaleService.streamSales)
+     * Items come from SaleItemRepository.streamListItemsBySaleDesc, in the same order.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.smartinventory.dto.SaleListDTO(" +
+            "s.id, s.saleReference, s.status, s.paymentMethod, s.totalAmount, s.saleDate, " +
+            "c.id, c.name) " +
+            "FROM Sale s " +
+            "LEFT JOIN s.client c " +
+            "ORDER BY s.id DESC")
+    Stream<SaleListDTO> streamList();
+}
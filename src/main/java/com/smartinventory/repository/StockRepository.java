@@ -2,13 +2,19 @@ package com.smartinventory.repository;
 
 import com.smartinventory.model.Stock;
 import com.smartinventory.model.Product;
+import com.smartinventory.dto.StockListDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * StockRepository - Database access for Stock entity
@@ -83,4 +89,30 @@ public interface StockRepository extends JpaRepository<Stock, Long> {
      */
     @Query("SELECT s FROM Stock s WHERE s.movementType = 'OUT' OR s.quantity < 0")
     List<Stock> findStockRemovals();
-}
\ No newline at end of file
+
+    // ============================================
+    // LIST VIEWS (keyset pagination, see PaginationSupport)
+    // ============================================
+
+    /**
+     * One page of stock movements, newest first (pass Long.MAX_VALUE for the first page)
+     */
+    @Query("SELECT new com.smartinventory.dto.StockListDTO(" +
+            "s.id, p.id, p.name, s.quantity, s.movementType, s.reason, s.reference, s.createdAt) " +
+            "FROM Stock s " +
+            "JOIN s.product p " +
+            "WHERE s.id < :beforeId " +
+            "ORDER BY s.id DESC")
+    List<StockListDTO> findListPageBefore(@Param("beforeId") long beforeId, Pageable pageable);
+
+    /**
+     * All stock movements, newest first, read row by row (StockService.streamStockMovements)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.smartinventory.dto.StockListDTO(" +
+            "s.id, p.id, p.name, s.quantity, s.movementType, s.reason, s.reference, s.createdAt) " +
+            "FROM Stock s " +
+            "JOIN s.product p " +
+            "ORDER BY s.id DESC")
+    Stream<StockListDTO> streamList();
+}
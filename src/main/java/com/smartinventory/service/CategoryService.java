@@ -2,7 +2,9 @@ package com.smartinventory.service;
 
 import com.smartinventory.model.Category;
 import com.smartinventory.repository.CategoryRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,10 +13,12 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Category> getAllCategories() {
@@ -30,7 +34,10 @@ public class CategoryService {
         if (categoryRepository.existsByName(category.getName())) {
             throw new RuntimeException("Category with name " + category.getName() + " already exists");
         }
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.CATEGORIES));
+        return saved;
     }
 
     public Category updateCategory(Long id, Category categoryDetails) {
@@ -47,12 +54,17 @@ public class CategoryService {
             category.setDescription(categoryDetails.getDescription());
         }
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.CATEGORIES));
+        return saved;
     }
 
     public void deleteCategory(Long id) {
         Category category = getCategoryById(id);
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.CATEGORIES));
     }
 
     public List<Category> searchCategories(String searchTerm) {
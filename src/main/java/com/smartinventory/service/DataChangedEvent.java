@@ -0,0 +1,41 @@
+package com.smartinventory.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * DataChangedEvent - Published when rows of one or more tables are written
+ *
+ * - PRODUCTS: products, including their on_hand balance
+ *   (ProductService, StockService, StockReconciliationService)
+ * - CATEGORIES, SUPPLIERS: CategoryService, SupplierService
+ * - STOCK: stock movements (StockService, StockReconciliationService)
+ * - SALES: sales, sale items and the daily rollup
+ *   (SaleService, SaleItemService, SalesRollupService)
+ *
+ * DataVersions bumps the version of each table once the transaction has committed.
+ */
+public class DataChangedEvent {
+
+    public enum Table {
+        PRODUCTS,
+        CATEGORIES,
+        SUPPLIERS,
+        STOCK,
+        SALES
+    }
+
+    private final Set<Table> tables;
+
+    private DataChangedEvent(Set<Table> tables) {
+        this.tables = tables;
+    }
+
+    public static DataChangedEvent of(Table table, Table... more) {
+        return new DataChangedEvent(EnumSet.of(table, more));
+    }
+
+    public Set<Table> getTables() {
+        return tables;
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartinventory.service;
+
+import com.smartinventory.service.DataChangedEvent.Table;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * DataVersions - In-memory version counter per table
+ *
+ * A table's version is incremented after every committed write to it (see
+ * DataChangedEvent), so two equal versions mean the table has not changed in
+ * between. ConditionalGetInterceptor builds ETags from them.
+ *
+ * The counters start at 0 on every boot; the epoch (startup time) tells
+ * versions of different runs apart.
+ */
+@Component
+public class DataVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLongArray versions = new AtomicLongArray(Table.values().length);
+
+    /**
+     * Bump the written tables, once the transaction has committed
+     *
+     * A reader that took the version before the commit may have read either the
+     * old or the new rows, but its version is already outdated, so a response
+     * tagged with it is never reused after the write.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDataChanged(DataChangedEvent event) {
+        for (Table table : event.getTables()) {
+            versions.incrementAndGet(table.ordinal());
+        }
+    }
+
+    public long get(Table table) {
+        return versions.get(table.ordinal());
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+}
@@ -9,9 +9,12 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -52,6 +55,7 @@ public class JwtService {
 
     /**
      * Create JWT token with claims
+     * Every token gets a random jti (token ID) used to store and revoke it.
      *
      * @param claims - Additional data to include in token
      * @param subject - Username (subject of the token)
@@ -61,6 +65,7 @@ public class JwtService {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
                 .signWith(getSigningKey())
@@ -79,8 +84,19 @@ public class JwtService {
      * @return true if token is valid
      */
     public boolean isTokenValid(String token, User user) {
-        final String username = extractUsername(token);
-        return (username.equals(user.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(token, user.getUsername());
+    }
+
+    /**
+     * Validate token against a username
+     *
+     * @param token - JWT token
+     * @param expectedUsername - Username the token must belong to
+     * @return true if token is valid
+     */
+    public boolean isTokenValid(String token, String expectedUsername) {
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(expectedUsername) && !claims.getExpiration().before(new Date());
     }
 
     /**
@@ -129,6 +145,33 @@ public class JwtService {
         return claims.get("role", String.class);
     }
 
+    /**
+     * Extract token ID (jti claim) from token
+     *
+     * @param token - JWT token
+     * @return Token ID, or null for tokens issued without one
+     */
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    /**
+     * Fixed-width (32 byte) key identifying a token in the auth table:
+     * SHA-256 of its jti, or of the whole token if it has no jti
+     *
+     * @param token - JWT token
+     * @return Token hash
+     */
+    public byte[] extractTokenHash(String token) {
+        String tokenId = extractTokenId(token);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest((tokenId != null ? tokenId : token).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Extract expiration date from token
      *
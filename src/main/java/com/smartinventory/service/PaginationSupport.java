@@ -0,0 +1,89 @@
+package com.smartinventory.service;
+
+import com.smartinventory.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PaginationSupport - Keyset (cursor) pagination helpers
+ *
+ * Lists are paged on the primary key: each page is "WHERE id > / < last id
+ * ORDER BY id LIMIT n", so page N costs the same as page 1. The list queries
+ * return DTOs (dto/*ListDTO) rather than entities. Ids are assigned
+ * in insertion order, so ordering by id also orders by created_at.
+ *
+ * The cursor is the last id of the previous page, base64url encoded so clients
+ * treat it as opaque.
+ */
+@Component
+public class PaginationSupport {
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    @Value("${api.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${api.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Page size to use for a requested limit (default if missing, capped at the maximum)
+     */
+    public int resolveLimit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+
+    /**
+     * Pageable that fetches one extra row, used to detect whether a next page exists
+     */
+    public Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Decode a cursor into the last id of the previous page
+     *
+     * @return the id, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed (list endpoints answer 400)
+     */
+    public Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            return Long.parseLong(value.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Build a page from rows fetched with probe(limit)
+     */
+    public <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, encodeCursor(idOf.apply(items.get(limit - 1))), limit);
+    }
+}
@@ -0,0 +1,143 @@
+package com.smartinventory.service;
+
+import com.smartinventory.dto.AuthenticatedUser;
+import com.smartinventory.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PrincipalCache - Short-lived cache of authenticated users by username
+ *
+ * JwtAuthenticationFilter reads the principal from here instead of loading the
+ * User entity on every request. Entries expire after auth.principal-cache.ttl-ms
+ * and the cache never holds more than auth.principal-cache.max-entries users.
+ *
+ * UserService (update/delete) and AuthService (changePassword) invalidate the
+ * affected username, so role changes take effect on the next request.
+ *
+ * Meters: auth.principal.cache.gets{result=hit|miss} and auth.principal.cache.size.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Autowired
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${auth.principal-cache.ttl-ms:300000}") long ttlMillis,
+                          @Value("${auth.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get the principal for a username, loading it from the database on a miss
+     *
+     * @throws RuntimeException if the user does not exist
+     */
+    public AuthenticatedUser get(String username) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry != null && entry.expiresAt > now) {
+            hits.incrementAndGet();
+            return entry.user;
+        }
+
+        misses.incrementAndGet();
+        AuthenticatedUser user = userRepository.findByUsername(username)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(username, new Entry(user, now + ttlMillis));
+        return user;
+    }
+
+    /**
+     * Remove a username from the cache
+     */
+    public void invalidate(String username) {
+        if (username != null) {
+            entries.remove(username);
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Cache statistics: size, hits, misses, hitRatio
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", entries.size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        getCounter(registry, "hit", hits);
+        getCounter(registry, "miss", misses);
+        Gauge.builder("auth.principal.cache.size", entries, Map::size)
+                .description("Cached principals")
+                .register(registry);
+    }
+
+    private static void getCounter(MeterRegistry registry, String result, AtomicLong count) {
+        FunctionCounter.builder("auth.principal.cache.gets", count, AtomicLong::get)
+                .description("Principal cache lookups, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Make room: drop expired entries, then arbitrary ones if still full
+     */
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAt <= now);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final AuthenticatedUser user;
+        private final long expiresAt;
+
+        private Entry(AuthenticatedUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
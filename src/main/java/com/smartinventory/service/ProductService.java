@@ -1,12 +1,16 @@
 package com.smartinventory.service;
 
+import com.smartinventory.dto.CursorPage;
+import com.smartinventory.dto.ProductListDTO;
 import com.smartinventory.model.Product;
 import com.smartinventory.model.Category;
 import com.smartinventory.model.Supplier;
 import com.smartinventory.repository.ProductRepository;
 import com.smartinventory.repository.CategoryRepository;
 import com.smartinventory.repository.SupplierRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,14 +24,20 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final SupplierRepository supplierRepository;
+    private final PaginationSupport paginationSupport;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ProductService(ProductRepository productRepository,
                           CategoryRepository categoryRepository,
-                          SupplierRepository supplierRepository) {
+                          SupplierRepository supplierRepository,
+                          PaginationSupport paginationSupport,
+                          ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
         this.supplierRepository = supplierRepository;
+        this.paginationSupport = paginationSupport;
+        this.eventPublisher = eventPublisher;
     }
 
     // ============================================
@@ -35,10 +45,17 @@ public class ProductService {
     // ============================================
 
     /**
-     * Get all products
+     * Get one page of products, ordered by id
+     *
+     * @param cursor - "next" value of the previous page, null for the first page
+     * @param limit - page size, null for the default
      */
-    public List<Product> getAllProducts() {
-        return productRepository.findAll();
+    public CursorPage<ProductListDTO> getProductsPage(String cursor, Integer limit) {
+        Long afterId = paginationSupport.decodeCursor(cursor);
+        int size = paginationSupport.resolveLimit(limit);
+        List<ProductListDTO> rows = productRepository.findListPageAfter(
+                afterId != null ? afterId : 0L, paginationSupport.probe(size));
+        return paginationSupport.toPage(rows, size, ProductListDTO::getId);
     }
 
     /**
@@ -80,7 +97,10 @@ public class ProductService {
             product.setSupplier(supplier);
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS));
+        return saved;
     }
 
     /**
@@ -131,7 +151,10 @@ public class ProductService {
             product.setSupplier(supplier);
         }
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS));
+        return saved;
     }
 
     /**
@@ -140,6 +163,8 @@ public class ProductService {
     public void deleteProduct(Long id) {
         Product product = getProductById(id);
         productRepository.delete(product);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS));
     }
 
     // ============================================
@@ -221,13 +246,6 @@ public class ProductService {
      * Calculate total inventory value
      */
     public double calculateTotalInventoryValue() {
-        List<Product> products = productRepository.findAll();
-        return products.stream()
-                .mapToDouble(p -> {
-                    int stock = p.getCurrentStock();
-                    Double costPrice = p.getCostPrice();
-                    return stock * (costPrice != null ? costPrice : 0);
-                })
-                .sum();
+        return productRepository.calculateInventoryValue();
     }
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.smartinventory.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryDiagnostics - Per-request SQL budgets and N+1 detection
+ *
+ * QueryMetricsFilter reports the statements of every request. A warning is
+ * logged (as key=value pairs) when a request:
+ * - runs more than diagnostics.query.max-count statements, or spends more than
+ *   diagnostics.query.max-time-ms executing them
+ * - runs the same statement shape more than diagnostics.query.repeat-threshold
+ *   times, the signature of an N+1 query
+ *
+ * Per endpoint (method + URI pattern) the worst values seen are kept for the
+ * admin endpoint GET /api/diagnostics/queries.
+ */
+@Component
+public class QueryDiagnostics {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryDiagnostics.class);
+
+    private final int maxQueries;
+    private final long maxSqlNanos;
+    private final int repeatThreshold;
+
+    // "GET /api/products/{id}" -> stats
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public QueryDiagnostics(@Value("${diagnostics.query.max-count:30}") int maxQueries,
+                            @Value("${diagnostics.query.max-time-ms:200}") long maxSqlTimeMillis,
+                            @Value("${diagnostics.query.repeat-threshold:10}") int repeatThreshold) {
+        this.maxQueries = maxQueries;
+        this.maxSqlNanos = TimeUnit.MILLISECONDS.toNanos(maxSqlTimeMillis);
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * Check and record the statements of one request
+     *
+     * @param method - HTTP method
+     * @param uri - URI pattern of the handler ("UNKNOWN" if none)
+     * @param queries - number of statements
+     * @param sqlNanos - time spent executing them
+     * @param repeatedSql - the statement shape run most often (null if none)
+     * @param repeats - how often it was run
+     */
+    public void record(String method, String uri, int queries, long sqlNanos, String repeatedSql, int repeats) {
+        boolean overBudget = queries > maxQueries || sqlNanos > maxSqlNanos;
+        boolean repeated = repeats > repeatThreshold;
+
+        if (overBudget) {
+            log.warn("event=query_budget_exceeded method={} uri={} queries={} sqlTimeMs={} maxQueries={} maxSqlTimeMs={}",
+                    method, uri, queries, toMillis(sqlNanos), maxQueries, toMillis(maxSqlNanos));
+        }
+        if (repeated) {
+            log.warn("event=repeated_statement method={} uri={} repeats={} threshold={} sql=\"{}\"",
+                    method, uri, repeats, repeatThreshold, repeatedSql);
+        }
+
+        endpoints.computeIfAbsent(method + " " + uri, EndpointStats::new)
+                .add(queries, sqlNanos, overBudget, repeated ? repeatedSql : null, repeats);
+    }
+
+    /**
+     * Endpoints with the worst query behaviour
+     *
+     * @param sortBy - "queries" (most statements in one request), "time"
+     *                 (most SQL time in one request) or "violations"
+     * @param limit - maximum number of endpoints
+     */
+    public List<Map<String, Object>> getWorstOffenders(String sortBy, int limit) {
+        Comparator<EndpointStats> order = switch (sortBy) {
+            case "time" -> Comparator.comparingLong(EndpointStats::getMaxSqlNanos);
+            case "violations" -> Comparator.comparingLong(EndpointStats::getViolations);
+            case "queries" -> Comparator.comparingInt(EndpointStats::getMaxQueries);
+            default -> throw new RuntimeException("Invalid sort: " + sortBy + " (use queries, time or violations)");
+        };
+
+        List<EndpointStats> sorted = new ArrayList<>(endpoints.values());
+        sorted.sort(order.reversed());
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (EndpointStats stats : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            result.add(stats.toMap());
+        }
+        return result;
+    }
+
+    /**
+     * Forget all recorded endpoint statistics
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static final class EndpointStats {
+        private final String endpoint;
+        private long requests;
+        private long totalQueries;
+        private int maxQueries;
+        private long totalSqlNanos;
+        private long maxSqlNanos;
+        private long budgetViolations;
+        private long repeatedStatementRequests;
+        private String worstRepeatedSql;
+        private int worstRepeats;
+
+        private EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private synchronized void add(int queries, long sqlNanos, boolean overBudget, String repeatedSql, int repeats) {
+            requests++;
+            totalQueries += queries;
+            maxQueries = Math.max(maxQueries, queries);
+            totalSqlNanos += sqlNanos;
+            maxSqlNanos = Math.max(maxSqlNanos, sqlNanos);
+            if (overBudget) {
+                budgetViolations++;
+            }
+            if (repeatedSql != null) {
+                repeatedStatementRequests++;
+                if (repeats > worstRepeats) {
+                    worstRepeats = repeats;
+                    worstRepeatedSql = repeatedSql;
+                }
+            }
+        }
+
+        private synchronized int getMaxQueries() {
+            return maxQueries;
+        }
+
+        private synchronized long getMaxSqlNanos() {
+            return maxSqlNanos;
+        }
+
+        private synchronized long getViolations() {
+            return budgetViolations + repeatedStatementRequests;
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("endpoint", endpoint);
+            map.put("requests", requests);
+            map.put("avgQueries", requests > 0 ? (double) totalQueries / requests : 0.0);
+            map.put("maxQueries", maxQueries);
+            map.put("avgSqlTimeMs", requests > 0 ? toMillis(totalSqlNanos / requests) : 0.0);
+            map.put("maxSqlTimeMs", toMillis(maxSqlNanos));
+            map.put("budgetViolations", budgetViolations);
+            map.put("repeatedStatementRequests", repeatedStatementRequests);
+            map.put("worstRepeats", worstRepeats);
+            map.put("worstRepeatedSql", worstRepeatedSql);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.smartinventory.service;
+
+import com.smartinventory.service.ReportDataChangedEvent.Kind;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ReportCache - Cache of ReportController results
+ *
+ * Entries are keyed by endpoint, date range (the request's start/end dates,
+ * null meaning the default "last 30 days" / "now") and any other parameters.
+ * They expire after report.cache.ttl-ms and the cache holds at most
+ * report.cache.max-entries results.
+ *
+ * Writes invalidate selectively (see ReportDataChangedEvent):
+ * - SALES on day D drops sales-based entries whose range contains D, so
+ *   historic ranges that ended before D stay cached
+ * - STOCK drops entries that show stock balances
+ * - ALL clears the cache
+ *
+ * Invalidation happens after the writing transaction commits. A result that
+ * was being computed while an invalidation happened is returned but not stored,
+ * since it may have read the data from before the write. Storing a result and
+ * invalidating hold the same lock, so an invalidation cannot slip in between
+ * the version check and the put.
+ *
+ * Meters: report.cache.gets{result=hit|miss|bypass}, report.cache.invalidations
+ * and report.cache.size.
+ */
+@Component
+public class ReportCache implements MeterBinder {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    // Incremented on every invalidation
+    private final AtomicLong version = new AtomicLong();
+
+    // Guards storing results against invalidations (lookups don't take it)
+    private final Object writeLock = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bypasses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ReportCache(@Value("${report.cache.ttl-ms:300000}") long ttlMillis,
+                       @Value("${report.cache.max-entries:500}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get a cached report, computing and storing it on a miss
+     *
+     * @param endpoint - report name, e.g. "summary"
+     * @param startDate - requested start date (null = default)
+     * @param endDate - requested end date (null = now)
+     * @param params - other request parameters that change the result ("" if none)
+     * @param dependsOn - kinds of data the report is built from
+     * @param bypass - skip the lookup and recompute (the fresh result is stored)
+     * @param loader - computes the report
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, LocalDate startDate, LocalDate endDate, String params,
+                     Set<Kind> dependsOn, boolean bypass, Supplier<T> loader) {
+        Key key = new Key(endpoint, startDate, endDate, params);
+        long now = System.currentTimeMillis();
+
+        if (bypass) {
+            bypasses.incrementAndGet();
+        } else {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.incrementAndGet();
+                return (T) entry.value;
+            }
+            misses.incrementAndGet();
+        }
+
+        long versionBefore = version.get();
+        T value = loader.get();
+
+        synchronized (writeLock) {
+            if (version.get() == versionBefore) {
+                if (entries.size() >= maxEntries) {
+                    evict(now);
+                }
+                entries.put(key, new Entry(value, EnumSet.copyOf(dependsOn), now + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drop the entries affected by a write, once it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportDataChanged(ReportDataChangedEvent event) {
+        invalidations.incrementAndGet();
+
+        synchronized (writeLock) {
+            version.incrementAndGet();
+            switch (event.getKind()) {
+                case SALES -> entries.entrySet().removeIf(e ->
+                        e.getValue().dependsOn.contains(Kind.SALES) && e.getKey().covers(event.getDate()));
+                case STOCK -> entries.values().removeIf(e -> e.dependsOn.contains(Kind.STOCK));
+                case ALL -> entries.clear();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        onReportDataChanged(ReportDataChangedEvent.all());
+    }
+
+    /**
+     * Cache statistics: size, hits, misses, bypasses, invalidations, hitRatio
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("size", entries.size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("bypasses", bypasses.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("hitRatio", total > 0 ? (double) hitCount / total : 0.0);
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        getCounter(registry, "hit", hits);
+        getCounter(registry, "miss", misses);
+        getCounter(registry, "bypass", bypasses);
+        FunctionCounter.builder("report.cache.invalidations", invalidations, AtomicLong::get)
+                .description("Report cache invalidations")
+                .register(registry);
+        Gauge.builder("report.cache.size", entries, Map::size)
+                .description("Cached report results")
+                .register(registry);
+    }
+
+    private static void getCounter(MeterRegistry registry, String result, AtomicLong count) {
+        FunctionCounter.builder("report.cache.gets", count, AtomicLong::get)
+                .description("Report cache lookups, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Make room: drop expired entries, then arbitrary ones if still full
+     */
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAt <= now);
+        Iterator<Key> it = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class Key {
+        private final String endpoint;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final String params;
+
+        private Key(String endpoint, LocalDate startDate, LocalDate endDate, String params) {
+            this.endpoint = endpoint;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.params = params;
+        }
+
+        /**
+         * Whether the range can include the given day
+         * A missing start date is treated as open, a missing end date as "now".
+         */
+        private boolean covers(LocalDate date) {
+            if (date == null) {
+                return true;
+            }
+            return (startDate == null || !date.isBefore(startDate))
+                    && (endDate == null || !date.isAfter(endDate));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return endpoint.equals(other.endpoint)
+                    && Objects.equals(startDate, other.startDate)
+                    && Objects.equals(endDate, other.endDate)
+                    && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, startDate, endDate, params);
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final Set<Kind> dependsOn;
+        private final long expiresAt;
+
+        private Entry(Object value, Set<Kind> dependsOn, long expiresAt) {
+            this.value = value;
+            this.dependsOn = dependsOn;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.smartinventory.service;
+
+import java.time.LocalDate;
+
+/**
+ * ReportDataChangedEvent - Published when data shown in reports is written
+ *
+ * - SALES: a paid sale (or one of its items) changed on the given day
+ *   (published by SalesRollupService for SaleService and SaleItemService)
+ * - STOCK: product stock balances changed (StockService, StockReconciliationService)
+ * - ALL: anything else reports depend on (products, categories, suppliers,
+ *   rollup rebuild)
+ *
+ * ReportCache drops the affected entries once the transaction has committed.
+ */
+public class ReportDataChangedEvent {
+
+    public enum Kind {
+        SALES,
+        STOCK,
+        ALL
+    }
+
+    private final Kind kind;
+    private final LocalDate date;
+
+    private ReportDataChangedEvent(Kind kind, LocalDate date) {
+        this.kind = kind;
+        this.date = date;
+    }
+
+    public static ReportDataChangedEvent sales(LocalDate saleDate) {
+        return new ReportDataChangedEvent(Kind.SALES, saleDate);
+    }
+
+    public static ReportDataChangedEvent stock() {
+        return new ReportDataChangedEvent(Kind.STOCK, null);
+    }
+
+    public static ReportDataChangedEvent all() {
+        return new ReportDataChangedEvent(Kind.ALL, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Day of the changed sale (SALES only)
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+}
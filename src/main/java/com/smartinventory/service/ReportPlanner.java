@@ -0,0 +1,161 @@
+package com.smartinventory.service;
+
+import com.smartinventory.dto.report.*;
+import com.smartinventory.model.Category;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Supplier;
+import com.smartinventory.repository.CategoryRepository;
+import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.repository.SaleRepository;
+import com.smartinventory.repository.SupplierRepository;
+import com.smartinventory.service.ReportService.ProductTotals;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ReportPlanner - Assembles the full report (GET /api/reports/full)
+ *
+ * Instead of calling the eight ReportService methods one after another, the
+ * planner:
+ * 1. Loads the shared dataset once (sales totals, products, categories,
+ *    suppliers, counts), every query on its own virtual thread.
+ * 2. Builds each section with the ReportService builders as soon as its
+ *    inputs are loaded, also concurrently.
+ *
+ * Recommendations reuse the stock status section, and the product performance
+ * section too when the report covers the default last 30 days.
+ *
+ * Queries run in their own read-only transactions, so they are spread over the
+ * reader pool (sqlite.read-pool.size) and wait for a free connection there.
+ */
+@Service
+public class ReportPlanner {
+
+    private final ReportService reportService;
+    private final SaleRepository saleRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final SupplierRepository supplierRepository;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public ReportPlanner(ReportService reportService,
+                         SaleRepository saleRepository,
+                         ProductRepository productRepository,
+                         CategoryRepository categoryRepository,
+                         SupplierRepository supplierRepository) {
+        this.reportService = reportService;
+        this.saleRepository = saleRepository;
+        this.productRepository = productRepository;
+        this.categoryRepository = categoryRepository;
+        this.supplierRepository = supplierRepository;
+    }
+
+    /**
+     * Build the full report
+     *
+     * @param startDate - optional start date (defaults to 30 days ago)
+     * @param endDate - optional end date (defaults to now)
+     * @param days - number of days for the sales trend
+     * @return Map containing all report sections
+     */
+    public Map<String, Object> getFullReport(LocalDate startDate, LocalDate endDate, int days) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime recentStart = now.minusDays(ReportService.RECOMMENDATION_DAYS);
+
+        LocalDateTime start = (startDate != null) ? startDate.atStartOfDay() : now.minusDays(30);
+        LocalDateTime end = (endDate != null) ? endDate.atTime(LocalTime.MAX) : now;
+        boolean coversRecentDays = start.equals(recentStart) && end.equals(now);
+
+        // 1. Shared dataset
+        CompletableFuture<List<ProductTotals>> totals = load(() -> reportService.getSalesTotals(start, end));
+        CompletableFuture<List<ProductTotals>> recentTotals = coversRecentDays
+                ? totals
+                : load(() -> reportService.getSalesTotals(recentStart, now));
+        CompletableFuture<List<Product>> products = load(productRepository::findAll);
+        CompletableFuture<List<Category>> categories = load(categoryRepository::findAll);
+        CompletableFuture<List<Supplier>> suppliers = load(supplierRepository::findAll);
+        CompletableFuture<Long> paidSales = load(() -> saleRepository.countPaidSalesBetween(start, end));
+        CompletableFuture<Long> onHand = load(productRepository::sumOnHand);
+        CompletableFuture<Long> inventoryValueCents = load(productRepository::calculateInventoryValueCents);
+
+        // Sections with their own query
+        CompletableFuture<SalesTrendDTO> salesTrend = load(() -> reportService.getSalesTrend(days));
+        CompletableFuture<StockStatusDTO> stockStatus = load(reportService::getStockStatus);
+
+        // 2. Sections built from the shared dataset
+        CompletableFuture<SummaryMetricsDTO> summary = build(
+                () -> ReportService.buildSummaryMetrics(totals.join(), paidSales.join(), products.join().size()),
+                totals, paidSales, products);
+        CompletableFuture<List<ProductPerformanceDTO>> productPerformance = build(
+                () -> ReportService.buildProductPerformance(totals.join(), products.join()),
+                totals, products);
+        CompletableFuture<List<CategoryPerformanceDTO>> categoryPerformance = build(
+                () -> ReportService.buildCategoryPerformance(totals.join(), categories.join()),
+                totals, categories);
+        CompletableFuture<List<SupplierPerformanceDTO>> supplierPerformance = build(
+                () -> ReportService.buildSupplierPerformance(totals.join(), suppliers.join()),
+                totals, suppliers);
+        CompletableFuture<InventoryStatsDTO> inventoryStats = build(
+                () -> ReportService.buildInventoryStats(onHand.join(), inventoryValueCents.join(), products.join(), totals.join()),
+                onHand, inventoryValueCents, products, totals);
+        CompletableFuture<List<ProductPerformanceDTO>> recentPerformance = coversRecentDays
+                ? productPerformance
+                : build(() -> ReportService.buildProductPerformance(recentTotals.join(), products.join()),
+                        recentTotals, products);
+        CompletableFuture<List<RecommendationDTO>> recommendations = build(
+                () -> ReportService.buildRecommendations(stockStatus.join(), recentPerformance.join()),
+                stockStatus, recentPerformance);
+
+        try {
+            Map<String, Object> fullReport = new HashMap<>();
+            fullReport.put("summary", summary.join());
+            fullReport.put("salesTrend", salesTrend.join());
+            fullReport.put("productPerformance", productPerformance.join());
+            fullReport.put("categoryPerformance", categoryPerformance.join());
+            fullReport.put("supplierPerformance", supplierPerformance.join());
+            fullReport.put("stockStatus", stockStatus.join());
+            fullReport.put("inventoryStats", inventoryStats.join());
+            fullReport.put("recommendations", recommendations.join());
+            return fullReport;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // ============================================
+    // HELPER METHODS
+    // ============================================
+
+    private <T> CompletableFuture<T> load(java.util.function.Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    /**
+     * Run a builder once all of its inputs are loaded
+     */
+    private <T> CompletableFuture<T> build(java.util.function.Supplier<T> builder, CompletableFuture<?>... inputs) {
+        return CompletableFuture.allOf(inputs).thenApplyAsync(ignored -> builder.get(), executor);
+    }
+}
@@ -3,6 +3,7 @@ package com.smartinventory.service;
 import com.smartinventory.dto.report.*;
 import com.smartinventory.model.*;
 import com.smartinventory.repository.*;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,135 +18,136 @@ import java.util.stream.Collectors;
 
 /**
  * ReportService - Handles all report generation and analytics
+ *
+ * Each report is split into loading (repository queries) and building
+ * (static methods that only combine already-loaded data). The public methods
+ * do both; ReportPlanner reuses the builders to assemble the full report from
+ * one shared, concurrently loaded dataset.
+ *
+ * Money is aggregated as long cents (see Money); BigDecimal is only created
+ * for the values put into the DTOs.
  */
 @Service
+@Timed("inventory.service")
 @Transactional(readOnly = true)
 public class ReportService {
 
+    // Recommendations look at the product performance of the last N days
+    static final int RECOMMENDATION_DAYS = 30;
+
     private final SaleRepository saleRepository;
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final SupplierRepository supplierRepository;
+    private final SaleItemRepository saleItemRepository;
+    private final DailyProductSalesRepository rollupRepository;
 
     @Autowired
     public ReportService(SaleRepository saleRepository,
                         ProductRepository productRepository,
                         CategoryRepository categoryRepository,
-                        SupplierRepository supplierRepository) {
+                        SupplierRepository supplierRepository,
+                        SaleItemRepository saleItemRepository,
+                        DailyProductSalesRepository rollupRepository) {
         this.saleRepository = saleRepository;
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
         this.supplierRepository = supplierRepository;
+        this.saleItemRepository = saleItemRepository;
+        this.rollupRepository = rollupRepository;
     }
 
     /**
      * Get summary metrics for a date range
      */
     public SummaryMetricsDTO getSummaryMetrics(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Sale> sales = getSalesInRange(startDate, endDate);
-        List<Sale> paidSales = sales.stream()
-                .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                .collect(Collectors.toList());
+        return buildSummaryMetrics(
+                getSalesTotals(startDate, endDate),
+                saleRepository.countPaidSalesBetween(startDate, endDate),
+                productRepository.count()
+        );
+    }
 
-        // Calculate total revenue
-        BigDecimal totalRevenue = paidSales.stream()
-                .map(s -> BigDecimal.valueOf(s.getTotalAmount()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Calculate total cost
-        BigDecimal totalCost = BigDecimal.ZERO;
-        for (Sale sale : paidSales) {
-            for (SaleItem item : sale.getItems()) {
-                Product product = item.getProduct();
-                if (product.getCostPrice() != null) {
-                    BigDecimal itemCost = BigDecimal.valueOf(product.getCostPrice())
-                            .multiply(BigDecimal.valueOf(item.getQuantity()));
-                    totalCost = totalCost.add(itemCost);
-                }
-            }
+    static SummaryMetricsDTO buildSummaryMetrics(List<ProductTotals> totals, long paidSales, long productCount) {
+        // Calculate total revenue and cost
+        long revenueCents = 0;
+        long costCents = 0;
+        for (ProductTotals row : totals) {
+            revenueCents += row.revenueCents;
+            costCents += row.costCents;
         }
 
         // Calculate profit
-        BigDecimal totalProfit = totalRevenue.subtract(totalCost);
-
-        // Calculate profit margin percentage
-        BigDecimal profitMarginPercent = BigDecimal.ZERO;
-        if (totalRevenue.compareTo(BigDecimal.ZERO) > 0) {
-            profitMarginPercent = totalProfit
-                    .divide(totalRevenue, 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-        }
+        long profitCents = revenueCents - costCents;
 
-        // Calculate ROI percentage
-        BigDecimal roiPercent = BigDecimal.ZERO;
-        if (totalCost.compareTo(BigDecimal.ZERO) > 0) {
-            roiPercent = totalProfit
-                    .divide(totalCost, 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-        }
+        // Calculate profit margin and ROI percentages
+        BigDecimal profitMarginPercent = percentOf(profitCents, revenueCents);
+        BigDecimal roiPercent = percentOf(profitCents, costCents);
 
         // Calculate turnover rate (simple: sales / products)
-        List<Product> allProducts = productRepository.findAll();
         BigDecimal turnoverRate = BigDecimal.ZERO;
-        if (!allProducts.isEmpty()) {
-            turnoverRate = BigDecimal.valueOf(paidSales.size())
-                    .divide(BigDecimal.valueOf(allProducts.size()), 4, RoundingMode.HALF_UP);
+        if (productCount > 0) {
+            turnoverRate = BigDecimal.valueOf(paidSales)
+                    .divide(BigDecimal.valueOf(productCount), 4, RoundingMode.HALF_UP);
         }
 
         return new SummaryMetricsDTO(
-                totalRevenue,
-                totalProfit,
+                Money.toBigDecimal(revenueCents),
+                Money.toBigDecimal(profitCents),
                 profitMarginPercent,
                 roiPercent,
                 turnoverRate,
-                paidSales.size(),
-                allProducts.size()
+                (int) paidSales,
+                (int) productCount
         );
     }
 
     /**
-     * Get sales trend data for the last N days
+     * Get sales trend data for the last N days, one point per day
      */
     public SalesTrendDTO getSalesTrend(int days) {
+        return getSalesTrend(days, TrendBucket.DAY);
+    }
+
+    /**
+     * Get sales trend data for the last N days, grouped into day/week/month buckets
+     * Revenue and cost are aggregated from the daily rollup by a single GROUP BY
+     * query; buckets without sales are filled in with zero.
+     */
+    public SalesTrendDTO getSalesTrend(int days, TrendBucket bucket) {
         List<LocalDate> labels = new ArrayList<>();
         List<BigDecimal> revenue = new ArrayList<>();
         List<BigDecimal> profit = new ArrayList<>();
 
         LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(Math.max(days, 1) - 1);
 
-        for (int i = days - 1; i >= 0; i--) {
-            LocalDate date = today.minusDays(i);
-            labels.add(date);
+        List<Object[]> rows = rollupRepository.aggregateTrend(
+                firstDay,
+                today,
+                bucket.getStartModifier(),
+                bucket.getAlignModifier()
+        );
 
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
+        Map<LocalDate, Object[]> rowsByBucket = new HashMap<>();
+        for (Object[] row : rows) {
+            rowsByBucket.put(LocalDate.parse((String) row[0]), row);
+        }
 
-            List<Sale> daySales = getSalesInRange(startOfDay, endOfDay).stream()
-                    .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                    .collect(Collectors.toList());
+        LocalDate lastBucket = bucket.startOf(today);
+        for (LocalDate date = bucket.startOf(firstDay); !date.isAfter(lastBucket); date = bucket.next(date)) {
+            labels.add(date);
 
-            // Calculate day revenue
-            BigDecimal dayRevenue = daySales.stream()
-                    .map(s -> BigDecimal.valueOf(s.getTotalAmount()))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            revenue.add(dayRevenue);
-
-            // Calculate day cost
-            BigDecimal dayCost = BigDecimal.ZERO;
-            for (Sale sale : daySales) {
-                for (SaleItem item : sale.getItems()) {
-                    Product product = item.getProduct();
-                    if (product.getCostPrice() != null) {
-                        BigDecimal itemCost = BigDecimal.valueOf(product.getCostPrice())
-                                .multiply(BigDecimal.valueOf(item.getQuantity()));
-                        dayCost = dayCost.add(itemCost);
-                    }
-                }
+            Object[] row = rowsByBucket.get(date);
+            long bucketRevenueCents = 0;
+            long bucketCostCents = 0;
+            if (row != null) {
+                bucketRevenueCents = toCents(row[1]);
+                bucketCostCents = toCents(row[2]);
             }
 
-            // Calculate day profit
-            BigDecimal dayProfit = dayRevenue.subtract(dayCost);
-            profit.add(dayProfit);
+            revenue.add(Money.toBigDecimal(bucketRevenueCents));
+            profit.add(Money.toBigDecimal(bucketRevenueCents - bucketCostCents));
         }
 
         return new SalesTrendDTO(labels, revenue, profit);
@@ -155,201 +157,121 @@ public class ReportService {
      * Get product performance metrics
      */
     public List<ProductPerformanceDTO> getProductPerformance(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Sale> paidSales = getSalesInRange(startDate, endDate).stream()
-                .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                .collect(Collectors.toList());
+        return buildProductPerformance(getSalesTotals(startDate, endDate), productRepository.findAll());
+    }
 
-        Map<Long, ProductPerformanceDTO> performanceMap = new HashMap<>();
+    static List<ProductPerformanceDTO> buildProductPerformance(List<ProductTotals> totals, List<Product> allProducts) {
+        // Sum the sales totals per product
+        Map<Long, Sums> sumsByProduct = new HashMap<>();
+        for (ProductTotals row : totals) {
+            sumsByProduct.computeIfAbsent(row.productId, id -> new Sums()).add(row);
+        }
 
-        // Initialize all products
-        List<Product> allProducts = productRepository.findAll();
+        // One entry per product, including products without sales
+        List<ProductPerformanceDTO> performance = new ArrayList<>(allProducts.size());
         for (Product product : allProducts) {
-            performanceMap.put(product.getId(), new ProductPerformanceDTO(
+            Sums sums = sumsByProduct.getOrDefault(product.getId(), Sums.EMPTY);
+            long profitCents = sums.revenueCents - sums.costCents;
+
+            performance.add(new ProductPerformanceDTO(
                     product.getId(),
                     product.getName(),
-                    0,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO
+                    (int) sums.quantity,
+                    Money.toBigDecimal(sums.revenueCents),
+                    Money.toBigDecimal(sums.costCents),
+                    Money.toBigDecimal(profitCents),
+                    percentOf(profitCents, sums.revenueCents),
+                    percentOf(profitCents, sums.costCents)
             ));
         }
 
-        // Calculate from sales
-        for (Sale sale : paidSales) {
-            for (SaleItem item : sale.getItems()) {
-                Long productId = item.getProduct().getId();
-                ProductPerformanceDTO dto = performanceMap.get(productId);
-
-                if (dto != null) {
-                    dto.setQuantity(dto.getQuantity() + item.getQuantity());
-                    dto.setRevenue(dto.getRevenue().add(BigDecimal.valueOf(item.getSubtotal())));
-
-                    Product product = item.getProduct();
-                    if (product.getCostPrice() != null) {
-                        BigDecimal itemCost = BigDecimal.valueOf(product.getCostPrice())
-                                .multiply(BigDecimal.valueOf(item.getQuantity()));
-                        dto.setCost(dto.getCost().add(itemCost));
-                    }
-                }
-            }
-        }
-
-        // Calculate profit, margin, and ROI
-        for (ProductPerformanceDTO dto : performanceMap.values()) {
-            BigDecimal profit = dto.getRevenue().subtract(dto.getCost());
-            dto.setProfit(profit);
-
-            // Calculate profit margin
-            if (dto.getRevenue().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal margin = profit
-                        .divide(dto.getRevenue(), 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-                dto.setProfitMargin(margin);
-            }
-
-            // Calculate ROI
-            if (dto.getCost().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal roi = profit
-                        .divide(dto.getCost(), 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-                dto.setRoi(roi);
-            }
-        }
-
-        return new ArrayList<>(performanceMap.values());
+        return performance;
     }
 
     /**
      * Get category performance metrics
      */
     public List<CategoryPerformanceDTO> getCategoryPerformance(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Sale> paidSales = getSalesInRange(startDate, endDate).stream()
-                .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                .collect(Collectors.toList());
+        return buildCategoryPerformance(getSalesTotals(startDate, endDate), categoryRepository.findAll());
+    }
 
-        Map<Long, CategoryPerformanceDTO> performanceMap = new HashMap<>();
+    static List<CategoryPerformanceDTO> buildCategoryPerformance(List<ProductTotals> totals, List<Category> allCategories) {
+        // Sum the sales totals per category
+        Map<Long, Sums> sumsByCategory = new HashMap<>();
+        for (ProductTotals row : totals) {
+            if (row.categoryId != null) {
+                sumsByCategory.computeIfAbsent(row.categoryId, id -> new Sums()).add(row);
+            }
+        }
 
-        // Initialize categories
-        List<Category> allCategories = categoryRepository.findAll();
+        // Only categories with revenue
+        List<CategoryPerformanceDTO> performance = new ArrayList<>();
         for (Category category : allCategories) {
-            performanceMap.put(category.getId(), new CategoryPerformanceDTO(
+            Sums sums = sumsByCategory.get(category.getId());
+            if (sums == null || sums.revenueCents <= 0) {
+                continue;
+            }
+            long profitCents = sums.revenueCents - sums.costCents;
+
+            performance.add(new CategoryPerformanceDTO(
                     category.getId(),
                     category.getName(),
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    BigDecimal.ZERO,
-                    0
+                    Money.toBigDecimal(sums.revenueCents),
+                    Money.toBigDecimal(sums.costCents),
+                    Money.toBigDecimal(profitCents),
+                    percentOf(profitCents, sums.costCents),
+                    (int) sums.quantity
             ));
         }
 
-        // Calculate from sales
-        for (Sale sale : paidSales) {
-            for (SaleItem item : sale.getItems()) {
-                Product product = item.getProduct();
-                if (product.getCategory() != null) {
-                    Long categoryId = product.getCategory().getId();
-                    CategoryPerformanceDTO dto = performanceMap.get(categoryId);
-
-                    if (dto != null) {
-                        dto.setRevenue(dto.getRevenue().add(BigDecimal.valueOf(item.getSubtotal())));
-                        dto.setQuantity(dto.getQuantity() + item.getQuantity());
-
-                        if (product.getCostPrice() != null) {
-                            BigDecimal itemCost = BigDecimal.valueOf(product.getCostPrice())
-                                    .multiply(BigDecimal.valueOf(item.getQuantity()));
-                            dto.setCost(dto.getCost().add(itemCost));
-                        }
-                    }
-                }
-            }
-        }
-
-        // Calculate profit and ROI
-        for (CategoryPerformanceDTO dto : performanceMap.values()) {
-            BigDecimal profit = dto.getRevenue().subtract(dto.getCost());
-            dto.setProfit(profit);
-
-            if (dto.getCost().compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal roi = profit
-                        .divide(dto.getCost(), 4, RoundingMode.HALF_UP)
-                        .multiply(BigDecimal.valueOf(100));
-                dto.setRoi(roi);
-            }
-        }
-
-        // Filter out categories with no revenue
-        return performanceMap.values().stream()
-                .filter(dto -> dto.getRevenue().compareTo(BigDecimal.ZERO) > 0)
-                .collect(Collectors.toList());
+        return performance;
     }
 
     /**
      * Get supplier performance metrics
      */
     public List<SupplierPerformanceDTO> getSupplierPerformance(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Sale> paidSales = getSalesInRange(startDate, endDate).stream()
-                .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                .collect(Collectors.toList());
+        return buildSupplierPerformance(getSalesTotals(startDate, endDate), supplierRepository.findAll());
+    }
 
-        Map<Long, SupplierPerformanceDTO> performanceMap = new HashMap<>();
+    static List<SupplierPerformanceDTO> buildSupplierPerformance(List<ProductTotals> totals, List<Supplier> allSuppliers) {
+        // Sum the sales totals per supplier
+        Map<Long, Sums> sumsBySupplier = new HashMap<>();
+        for (ProductTotals row : totals) {
+            if (row.supplierId != null) {
+                sumsBySupplier.computeIfAbsent(row.supplierId, id -> new Sums()).add(row);
+            }
+        }
 
-        // Initialize suppliers
-        List<Supplier> allSuppliers = supplierRepository.findAll();
+        // Only suppliers with revenue, highest revenue first
+        List<SupplierPerformanceDTO> performance = new ArrayList<>();
         for (Supplier supplier : allSuppliers) {
-            performanceMap.put(supplier.getId(), new SupplierPerformanceDTO(
+            Sums sums = sumsBySupplier.get(supplier.getId());
+            if (sums == null || sums.revenueCents <= 0) {
+                continue;
+            }
+
+            performance.add(new SupplierPerformanceDTO(
                     supplier.getId(),
                     supplier.getName(),
-                    BigDecimal.ZERO,
-                    0
+                    Money.toBigDecimal(sums.revenueCents),
+                    (int) sums.lineCount
             ));
         }
 
-        // Calculate from sales
-        for (Sale sale : paidSales) {
-            for (SaleItem item : sale.getItems()) {
-                Product product = item.getProduct();
-                if (product.getSupplier() != null) {
-                    Long supplierId = product.getSupplier().getId();
-                    SupplierPerformanceDTO dto = performanceMap.get(supplierId);
-
-                    if (dto != null) {
-                        dto.setRevenue(dto.getRevenue().add(BigDecimal.valueOf(item.getSubtotal())));
-                        dto.setProductCount(dto.getProductCount() + 1);
-                    }
-                }
-            }
-        }
-
-        // Filter and sort
-        return performanceMap.values().stream()
-                .filter(dto -> dto.getRevenue().compareTo(BigDecimal.ZERO) > 0)
-                .sorted(Comparator.comparing(SupplierPerformanceDTO::getRevenue).reversed())
-                .collect(Collectors.toList());
+        performance.sort(Comparator.comparing(SupplierPerformanceDTO::getRevenue).reversed());
+        return performance;
     }
 
     /**
      * Get stock status distribution
      */
     public StockStatusDTO getStockStatus() {
-        List<Product> allProducts = productRepository.findAll();
-
-        int inStock = 0;
-        int lowStock = 0;
-        int outOfStock = 0;
+        Object[] counts = productRepository.countByStockLevel(10).get(0);
 
-        for (Product product : allProducts) {
-            int stock = product.getCurrentStock();
-            if (stock >= 10) {
-                inStock++;
-            } else if (stock > 0) {
-                lowStock++;
-            } else {
-                outOfStock++;
-            }
-        }
+        int inStock = ((Number) counts[0]).intValue();
+        int lowStock = ((Number) counts[1]).intValue();
+        int outOfStock = ((Number) counts[2]).intValue();
 
         return new StockStatusDTO(inStock, lowStock, outOfStock);
     }
@@ -358,43 +280,32 @@ public class ReportService {
      * Get inventory statistics
      */
     public InventoryStatsDTO getInventoryStats(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Product> allProducts = productRepository.findAll();
-
-        // Total items in stock
-        int totalItems = allProducts.stream()
-                .mapToInt(Product::getCurrentStock)
-                .sum();
+        return buildInventoryStats(
+                productRepository.sumOnHand(),
+                productRepository.calculateInventoryValueCents(),
+                productRepository.findAll(),
+                getSalesTotals(startDate, endDate)
+        );
+    }
 
-        // Total inventory value
-        BigDecimal totalValue = allProducts.stream()
-                .map(p -> {
-                    int stock = p.getCurrentStock();
-                    Double cost = p.getCostPrice();
-                    if (cost != null) {
-                        return BigDecimal.valueOf(stock).multiply(BigDecimal.valueOf(cost));
-                    }
-                    return BigDecimal.ZERO;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * @param onHand - total items in stock
+     * @param inventoryValueCents - total inventory value in cents
+     */
+    static InventoryStatsDTO buildInventoryStats(Long onHand, Long inventoryValueCents,
+                                                 List<Product> allProducts, List<ProductTotals> totals) {
+        int totalItems = onHand.intValue();
+        BigDecimal totalValue = Money.toBigDecimal(inventoryValueCents);
 
         // Average profit margin
         List<Product> productsWithPrices = allProducts.stream()
-                .filter(p -> p.getCostPrice() != null && p.getSellingPrice() != null)
+                .filter(p -> p.getCostPriceCents() != null && p.getSellingPriceCents() != null)
                 .collect(Collectors.toList());
 
         BigDecimal avgMargin = BigDecimal.ZERO;
         if (!productsWithPrices.isEmpty()) {
             BigDecimal totalMargin = productsWithPrices.stream()
-                    .map(p -> {
-                        BigDecimal cost = BigDecimal.valueOf(p.getCostPrice());
-                        BigDecimal selling = BigDecimal.valueOf(p.getSellingPrice());
-                        if (cost.compareTo(BigDecimal.ZERO) > 0) {
-                            return selling.subtract(cost)
-                                    .divide(cost, 4, RoundingMode.HALF_UP)
-                                    .multiply(BigDecimal.valueOf(100));
-                        }
-                        return BigDecimal.ZERO;
-                    })
+                    .map(p -> percentOf(p.getSellingPriceCents() - p.getCostPriceCents(), p.getCostPriceCents()))
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
             avgMargin = totalMargin.divide(
@@ -405,13 +316,8 @@ public class ReportService {
         }
 
         // Total items sold
-        List<Sale> paidSales = getSalesInRange(startDate, endDate).stream()
-                .filter(s -> "PAID".equalsIgnoreCase(s.getStatus()))
-                .collect(Collectors.toList());
-
-        int totalItemsSold = paidSales.stream()
-                .flatMap(s -> s.getItems().stream())
-                .mapToInt(SaleItem::getQuantity)
+        int totalItemsSold = (int) totals.stream()
+                .mapToLong(row -> row.quantity)
                 .sum();
 
         return new InventoryStatsDTO(totalItems, totalValue, avgMargin, totalItemsSold);
@@ -421,10 +327,17 @@ public class ReportService {
      * Generate smart recommendations based on data
      */
     public List<RecommendationDTO> getRecommendations() {
-        List<RecommendationDTO> recommendations = new ArrayList<>();
+        LocalDateTime endDate = LocalDateTime.now();
+        LocalDateTime startDate = endDate.minusDays(RECOMMENDATION_DAYS);
+        return buildRecommendations(getStockStatus(), getProductPerformance(startDate, endDate));
+    }
 
-        StockStatusDTO stockStatus = getStockStatus();
-        List<Product> allProducts = productRepository.findAll();
+    /**
+     * @param performance - product performance over the last RECOMMENDATION_DAYS days
+     */
+    static List<RecommendationDTO> buildRecommendations(StockStatusDTO stockStatus,
+                                                        List<ProductPerformanceDTO> performance) {
+        List<RecommendationDTO> recommendations = new ArrayList<>();
 
         // Low stock alert
         if (stockStatus.getLowStock() > 0) {
@@ -448,11 +361,6 @@ public class ReportService {
             ));
         }
 
-        // Get product performance for recommendations
-        LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(30);
-        List<ProductPerformanceDTO> performance = getProductPerformance(startDate, endDate);
-
         // Best seller recommendation
         ProductPerformanceDTO bestSeller = performance.stream()
                 .max(Comparator.comparing(ProductPerformanceDTO::getRevenue))
@@ -509,15 +417,122 @@ public class ReportService {
     }
 
     /**
-     * Helper method to get sales in a date range
+     * Helper method to read a SUM of cents from a native query row
      */
-    private List<Sale> getSalesInRange(LocalDateTime startDate, LocalDateTime endDate) {
-        List<Sale> allSales = saleRepository.findAll();
-        return allSales.stream()
-                .filter(s -> {
-                    LocalDateTime saleDate = s.getSaleDate();
-                    return !saleDate.isBefore(startDate) && !saleDate.isAfter(endDate);
-                })
-                .collect(Collectors.toList());
+    private long toCents(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * Helper method: part / whole * 100 (4 decimals before scaling), zero if whole <= 0
+     */
+    private static BigDecimal percentOf(long part, long whole) {
+        if (whole <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(part)
+                .divide(BigDecimal.valueOf(whole), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    /**
+     * Helper method to get per-product sales totals for a date range
+     *
+     * Whole days inside the range are read from the daily rollup; the partial
+     * days at either edge (e.g. "now minus 30 days") are aggregated from the raw
+     * sale items so the result matches the exact range.
+     */
+    List<ProductTotals> getSalesTotals(LocalDateTime startDate, LocalDateTime endDate) {
+        List<ProductTotals> totals = new ArrayList<>();
+        if (endDate.isBefore(startDate)) {
+            return totals;
+        }
+
+        LocalDate firstFullDay = startDate.toLocalTime().equals(LocalTime.MIDNIGHT)
+                ? startDate.toLocalDate()
+                : startDate.toLocalDate().plusDays(1);
+        LocalDate lastFullDay = isEndOfDay(endDate)
+                ? endDate.toLocalDate()
+                : endDate.toLocalDate().minusDays(1);
+
+        if (firstFullDay.isAfter(lastFullDay)) {
+            addTotals(totals, saleItemRepository.sumPaidByProductBetween(startDate, endDate));
+            return totals;
+        }
+
+        addTotals(totals, rollupRepository.sumByProductBetween(firstFullDay, lastFullDay));
+
+        LocalDateTime firstFullDayStart = firstFullDay.atStartOfDay();
+        if (startDate.isBefore(firstFullDayStart)) {
+            addTotals(totals, saleItemRepository.sumPaidByProductBetween(startDate, firstFullDayStart.minusNanos(1)));
+        }
+
+        LocalDateTime afterLastFullDay = lastFullDay.plusDays(1).atStartOfDay();
+        if (!endDate.isBefore(afterLastFullDay)) {
+            addTotals(totals, saleItemRepository.sumPaidByProductBetween(afterLastFullDay, endDate));
+        }
+
+        return totals;
+    }
+
+    /**
+     * Timestamps are stored with millisecond precision, so anything from
+     * 23:59:59.999 on covers the whole day
+     */
+    private boolean isEndOfDay(LocalDateTime dateTime) {
+        return !dateTime.toLocalTime().isBefore(LocalTime.of(23, 59, 59, 999_000_000));
+    }
+
+    private void addTotals(List<ProductTotals> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            totals.add(new ProductTotals(row));
+        }
+    }
+
+    /**
+     * Sales totals of one product (rows: [productId, categoryId, supplierId,
+     * quantity, revenueCents, costCents, lineCount])
+     */
+    static final class ProductTotals {
+        private final Long productId;
+        private final Long categoryId;
+        private final Long supplierId;
+        private final long quantity;
+        private final long revenueCents;
+        private final long costCents;
+        private final long lineCount;
+
+        ProductTotals(Object[] row) {
+            this.productId = toLong(row[0]);
+            this.categoryId = toLong(row[1]);
+            this.supplierId = toLong(row[2]);
+            this.quantity = row[3] != null ? ((Number) row[3]).longValue() : 0L;
+            this.revenueCents = row[4] != null ? ((Number) row[4]).longValue() : 0L;
+            this.costCents = row[5] != null ? ((Number) row[5]).longValue() : 0L;
+            this.lineCount = row[6] != null ? ((Number) row[6]).longValue() : 0L;
+        }
+
+        private static Long toLong(Object value) {
+            return value != null ? ((Number) value).longValue() : null;
+        }
+    }
+
+    /**
+     * Running totals (cents) of one product, category or supplier
+     */
+    private static final class Sums {
+        private static final Sums EMPTY = new Sums();
+
+        private long quantity;
+        private long revenueCents;
+        private long costCents;
+        private long lineCount;
+
+        private void add(ProductTotals row) {
+            quantity += row.quantity;
+            revenueCents += row.revenueCents;
+            costCents += row.costCents;
+            lineCount += row.lineCount;
+        }
     }
 }
@@ -0,0 +1,214 @@
+package com.smartinventory.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RevokedTokenCache - In-process view of revoked tokens
+ *
+ * Two layers:
+ * 1. A bloom filter: "definitely not revoked" answers need no further work,
+ *    which is the case for almost every request.
+ * 2. A bounded exact map (token key -> expiry) to confirm bloom hits.
+ *
+ * Entries are evicted once the token has expired (an expired JWT is rejected by
+ * its signature check anyway), and the bloom filter is rebuilt from the
+ * remaining entries. If more revocations arrive than the map can hold, the
+ * extra keys stay in the bloom filter only and the cache reports itself as
+ * incomplete until they have expired, so callers fall back to the database.
+ *
+ * Note: the cache only sees revocations made by this application instance
+ * (plus those loaded from the database on startup); revocations made by another
+ * instance are never seen.
+ *
+ * Meters: auth.revocation.cache.lookups{result=filtered|revoked|false_positive|unknown}
+ * and auth.revocation.cache.size.
+ */
+@Component
+public class RevokedTokenCache implements MeterBinder {
+
+    /**
+     * Outcome of a lookup
+     */
+    public enum Lookup {
+        NOT_REVOKED,
+        REVOKED,
+        // The cache is incomplete and cannot tell - ask the database
+        UNKNOWN
+    }
+
+    private final int maxEntries;
+    private final double falsePositiveRate;
+
+    // token key -> expiry (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    // While now < incompleteUntil, some revoked keys are only in the bloom filter
+    private volatile long incompleteUntil = 0;
+
+    private final AtomicLong filtered = new AtomicLong();
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final AtomicLong unknown = new AtomicLong();
+
+    public RevokedTokenCache(@Value("${auth.revocation-cache.max-entries:100000}") int maxEntries,
+                             @Value("${auth.revocation-cache.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.maxEntries = maxEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(maxEntries, falsePositiveRate);
+    }
+
+    /**
+     * Record a revoked token
+     *
+     * @param key - token key
+     * @param expiresAtMillis - when the token expires (epoch millis)
+     */
+    public synchronized void add(String key, long expiresAtMillis) {
+        if (revoked.size() < maxEntries || revoked.containsKey(key)) {
+            revoked.put(key, expiresAtMillis);
+        } else {
+            incompleteUntil = Math.max(incompleteUntil, expiresAtMillis);
+        }
+        filter.put(key);
+    }
+
+    /**
+     * Check whether a token is revoked
+     *
+     * @param key - token key
+     * @return NOT_REVOKED or REVOKED, or UNKNOWN if the caller must check the database
+     */
+    public Lookup lookup(String key) {
+        // Common case: never revoked, answered by the bloom filter alone
+        if (!filter.mightContain(key)) {
+            filtered.incrementAndGet();
+            return Lookup.NOT_REVOKED;
+        }
+        if (revoked.containsKey(key)) {
+            confirmed.incrementAndGet();
+            return Lookup.REVOKED;
+        }
+        if (isComplete()) {
+            // Bloom filter false positive
+            falsePositives.incrementAndGet();
+            return Lookup.NOT_REVOKED;
+        }
+        unknown.incrementAndGet();
+        return Lookup.UNKNOWN;
+    }
+
+    /**
+     * @return true if every revoked, unexpired key is in the exact map
+     */
+    public boolean isComplete() {
+        return System.currentTimeMillis() >= incompleteUntil;
+    }
+
+    /**
+     * Drop expired entries and rebuild the bloom filter without them
+     *
+     * @return number of entries removed
+     */
+    public synchronized int evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int removed = before - revoked.size();
+
+        // Keys that only live in the filter must stay until they expire
+        if (removed > 0 && isComplete()) {
+            BloomFilter rebuilt = new BloomFilter(maxEntries, falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+        return removed;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lookupCounter(registry, "filtered", filtered);
+        lookupCounter(registry, "revoked", confirmed);
+        lookupCounter(registry, "false_positive", falsePositives);
+        lookupCounter(registry, "unknown", unknown);
+        Gauge.builder("auth.revocation.cache.size", revoked, Map::size)
+                .description("Revoked tokens held in the exact map")
+                .register(registry);
+    }
+
+    private static void lookupCounter(MeterRegistry registry, String result, AtomicLong count) {
+        FunctionCounter.builder("auth.revocation.cache.lookups", count, AtomicLong::get)
+                .description("Revocation checks answered by the cache, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Minimal thread-safe bloom filter over strings (double hashing of a 64-bit FNV-1a hash)
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(expectedInsertions, 1);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, m);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        void put(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
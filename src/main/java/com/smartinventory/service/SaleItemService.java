@@ -1,13 +1,22 @@
 package com.smartinventory.service;
 
+import com.smartinventory.dto.CursorPage;
+import com.smartinventory.dto.SaleListItemDTO;
+import com.smartinventory.model.Sale;
 import com.smartinventory.model.SaleItem;
 import com.smartinventory.model.Product;
 import com.smartinventory.repository.SaleItemRepository;
+import com.smartinventory.repository.SaleRepository;
 import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * SaleItemService - Manages sale items
@@ -17,19 +26,46 @@ public class SaleItemService {
 
     private final SaleItemRepository saleItemRepository;
     private final ProductRepository productRepository;
+    private final SaleRepository saleRepository;
+    private final SalesRollupService salesRollupService;
+    private final PaginationSupport paginationSupport;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public SaleItemService(SaleItemRepository saleItemRepository,
-                           ProductRepository productRepository) {
+                           ProductRepository productRepository,
+                           SaleRepository saleRepository,
+                           SalesRollupService salesRollupService,
+                           PaginationSupport paginationSupport,
+                           ApplicationEventPublisher eventPublisher) {
         this.saleItemRepository = saleItemRepository;
         this.productRepository = productRepository;
+        this.saleRepository = saleRepository;
+        this.salesRollupService = salesRollupService;
+        this.paginationSupport = paginationSupport;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Get all sale items
+     * Get one page of sale items, newest first
      */
-    public List<SaleItem> getAllSaleItems() {
-        return saleItemRepository.findAll();
+    public CursorPage<SaleListItemDTO> getSaleItemsPage(String cursor, Integer limit) {
+        Long beforeId = paginationSupport.decodeCursor(cursor);
+        int size = paginationSupport.resolveLimit(limit);
+        List<SaleListItemDTO> rows = saleItemRepository.findListPageBefore(
+                beforeId != null ? beforeId : Long.MAX_VALUE, paginationSupport.probe(size));
+        return paginationSupport.toPage(rows, size, SaleListItemDTO::getId);
+    }
+
+    /**
+     * Pass every sale item, newest first, to the action as it is read
+     * (streamed responses: the list is never held in memory)
+     */
+    @Transactional(readOnly = true)
+    public void streamSaleItems(Consumer<SaleListItemDTO> action) {
+        try (Stream<SaleListItemDTO> rows = saleItemRepository.streamList()) {
+            rows.forEach(action);
+        }
     }
 
     /**
@@ -94,7 +130,15 @@ public class SaleItemService {
      * Create sale item
      * Note: Usually sale items are created with the sale, not separately
      */
+    @Transactional
     public SaleItem createSaleItem(SaleItem saleItem) {
+        // Resolve sale if provided
+        if (saleItem.getSale() != null && saleItem.getSale().getId() != null) {
+            Sale sale = saleRepository.findById(saleItem.getSale().getId())
+                    .orElseThrow(() -> new RuntimeException("Sale not found"));
+            saleItem.setSale(sale);
+        }
+
         // Validate product
         if (saleItem.getProduct() != null && saleItem.getProduct().getId() != null) {
             Product product = productRepository.findById(saleItem.getProduct().getId())
@@ -105,19 +149,37 @@ public class SaleItemService {
             if (saleItem.getUnitPrice() == null) {
                 saleItem.setUnitPrice(product.getSellingPrice());
             }
+
+            // Capture unit cost for reporting
+            saleItem.setUnitCost(product.getCostPrice());
         }
 
         // Calculate subtotal
         saleItem.calculateSubtotal();
 
-        return saleItemRepository.save(saleItem);
+        SaleItem saved = saleItemRepository.save(saleItem);
+
+        // Keep the daily sales rollup in sync
+        if (isPaid(saved.getSale())) {
+            salesRollupService.applyItem(saved.getSale(), saved, 1);
+        }
+
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+        return saved;
     }
 
     /**
      * Update sale item
      */
+    @Transactional
     public SaleItem updateSaleItem(Long id, SaleItem saleItemDetails) {
         SaleItem saleItem = getSaleItemById(id);
+        boolean paid = isPaid(saleItem.getSale());
+
+        // Take the old values out of the rollup before changing them
+        if (paid) {
+            salesRollupService.applyItem(saleItem.getSale(), saleItem, -1);
+        }
 
         if (saleItemDetails.getQuantity() != null) {
             saleItem.setQuantity(saleItemDetails.getQuantity());
@@ -134,14 +196,35 @@ public class SaleItemService {
         // Recalculate subtotal
         saleItem.calculateSubtotal();
 
-        return saleItemRepository.save(saleItem);
+        SaleItem saved = saleItemRepository.save(saleItem);
+
+        if (paid) {
+            salesRollupService.applyItem(saved.getSale(), saved, 1);
+        }
+
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+        return saved;
     }
 
     /**
      * Delete sale item
      */
+    @Transactional
     public void deleteSaleItem(Long id) {
         SaleItem saleItem = getSaleItemById(id);
+
+        if (isPaid(saleItem.getSale())) {
+            salesRollupService.applyItem(saleItem.getSale(), saleItem, -1);
+        }
+
         saleItemRepository.delete(saleItem);
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+    }
+
+    /**
+     * Check if an item belongs to a paid sale (only those are in the rollup)
+     */
+    private boolean isPaid(Sale sale) {
+        return sale != null && "PAID".equalsIgnoreCase(sale.getStatus());
     }
 }
\ No newline at end of file
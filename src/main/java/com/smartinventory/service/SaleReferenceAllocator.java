@@ -0,0 +1,148 @@
+package com.smartinventory.service;
+
+import com.smartinventory.repository.IdSequenceRepository;
+import com.smartinventory.repository.SaleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * SaleReferenceAllocator - Hands out unique sale references (SALE-000123)
+ *
+ * Numbers come from the "sale_reference" row of the id_sequence table, reserved
+ * in blocks (sale.reference.block-size) and then handed out from memory with an
+ * AtomicLong, so the common case costs no query at all.
+ *
+ * A block is reserved inside the caller's transaction, and only becomes
+ * available to other threads after that transaction commits. If the sale rolls
+ * back, the reservation rolls back with it and the unused numbers are dropped,
+ * so a number can be skipped but is never handed out twice.
+ *
+ * The SALE-n namespace belongs to the allocator: SaleService rejects
+ * client-supplied references that fall into it (see isGeneratedReference), so
+ * a number handed out later can never collide with a reference typed in by hand.
+ */
+@Service
+public class SaleReferenceAllocator {
+
+    private static final String SEQUENCE_NAME = "sale_reference";
+    private static final String PREFIX = "SALE-";
+    private static final Pattern GENERATED_REFERENCE = Pattern.compile("SALE-\\d+");
+
+    private final IdSequenceRepository sequenceRepository;
+    private final SaleRepository saleRepository;
+
+    @Value("${sale.reference.block-size:100}")
+    private int blockSize;
+
+    // Block numbers are currently taken from
+    private final AtomicReference<Block> current = new AtomicReference<>(Block.EMPTY);
+
+    // Committed blocks waiting to be used
+    private final Queue<Block> spareBlocks = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    public SaleReferenceAllocator(IdSequenceRepository sequenceRepository, SaleRepository saleRepository) {
+        this.sequenceRepository = sequenceRepository;
+        this.saleRepository = saleRepository;
+    }
+
+    /**
+     * Create the sequence on startup, continuing after the highest existing reference
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeSequence() {
+        if (sequenceRepository.findNextValue(SEQUENCE_NAME).isEmpty()) {
+            sequenceRepository.insertIfAbsent(SEQUENCE_NAME, saleRepository.findMaxGeneratedReferenceNumber() + 1);
+        }
+    }
+
+    /**
+     * Get the next sale reference
+     */
+    @Transactional
+    public String nextReference() {
+        return PREFIX + String.format("%06d", nextValue());
+    }
+
+    /**
+     * Whether a reference lies in the namespace the allocator hands out (SALE-123, SALE-000123)
+     */
+    public static boolean isGeneratedReference(String reference) {
+        return reference != null && GENERATED_REFERENCE.matcher(reference).matches();
+    }
+
+    private long nextValue() {
+        while (true) {
+            Block block = current.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.limit) {
+                return value;
+            }
+
+            Block spare = spareBlocks.poll();
+            if (spare == null) {
+                return reserveBlock();
+            }
+            if (!current.compareAndSet(block, spare)) {
+                spareBlocks.offer(spare);
+            }
+        }
+    }
+
+    /**
+     * Reserve a new block in the current transaction
+     * The first number goes to the caller; the rest is published after commit.
+     */
+    private long reserveBlock() {
+        if (sequenceRepository.advance(SEQUENCE_NAME, blockSize) == 0) {
+            initializeSequence();
+            sequenceRepository.advance(SEQUENCE_NAME, blockSize);
+        }
+
+        long end = sequenceRepository.findNextValue(SEQUENCE_NAME)
+                .orElseThrow(() -> new RuntimeException("Sale reference sequence not found"));
+        long start = end - blockSize;
+
+        Block rest = new Block(start + 1, end);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    spareBlocks.offer(rest);
+                }
+            });
+        } else {
+            spareBlocks.offer(rest);
+        }
+
+        return start;
+    }
+
+    /**
+     * Range of numbers [next, limit) reserved in the database
+     */
+    private static final class Block {
+        private static final Block EMPTY = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(long start, long limit) {
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
@@ -1,44 +1,129 @@
 package com.smartinventory.service;
 
+import com.smartinventory.dto.CursorPage;
+import com.smartinventory.dto.SaleListDTO;
+import com.smartinventory.dto.SaleListItemDTO;
 import com.smartinventory.model.Sale;
 import com.smartinventory.model.SaleItem;
 import com.smartinventory.model.Client;
 import com.smartinventory.model.Product;
+import com.smartinventory.repository.SaleItemRepository;
 import com.smartinventory.repository.SaleRepository;
 import com.smartinventory.repository.ClientRepository;
 import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("inventory.service")
 public class SaleService {
 
     private final SaleRepository saleRepository;
+    private final SaleItemRepository saleItemRepository;
     private final ClientRepository clientRepository;
     private final ProductRepository productRepository;
     private final StockService stockService;
+    private final SalesRollupService salesRollupService;
+    private final SaleReferenceAllocator saleReferenceAllocator;
+    private final PaginationSupport paginationSupport;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public SaleService(SaleRepository saleRepository,
+                       SaleItemRepository saleItemRepository,
                        ClientRepository clientRepository,
                        ProductRepository productRepository,
-                       StockService stockService) {
+                       StockService stockService,
+                       SalesRollupService salesRollupService,
+                       SaleReferenceAllocator saleReferenceAllocator,
+                       PaginationSupport paginationSupport,
+                       ApplicationEventPublisher eventPublisher) {
         this.saleRepository = saleRepository;
+        this.saleItemRepository = saleItemRepository;
         this.clientRepository = clientRepository;
         this.productRepository = productRepository;
         this.stockService = stockService;
+        this.salesRollupService = salesRollupService;
+        this.saleReferenceAllocator = saleReferenceAllocator;
+        this.paginationSupport = paginationSupport;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<Sale> getAllSales() {
-        return saleRepository.findAll();
+    /**
+     * Get one page of sales with their items, newest first
+     * Two queries per page: the sales, then all of their items.
+     */
+    public CursorPage<SaleListDTO> getSalesPage(String cursor, Integer limit) {
+        Long beforeId = paginationSupport.decodeCursor(cursor);
+        int size = paginationSupport.resolveLimit(limit);
+        List<SaleListDTO> rows = saleRepository.findListPageBefore(
+                beforeId != null ? beforeId : Long.MAX_VALUE, paginationSupport.probe(size));
+        CursorPage<SaleListDTO> page = paginationSupport.toPage(rows, size, SaleListDTO::getId);
+
+        if (!page.getItems().isEmpty()) {
+            Map<Long, SaleListDTO> salesById = page.getItems().stream()
+                    .collect(Collectors.toMap(SaleListDTO::getId, Function.identity()));
+            for (SaleListItemDTO item : saleItemRepository.findListItemsBySaleIds(List.copyOf(salesById.keySet()))) {
+                salesById.get(item.getSaleId()).getItems().add(item);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Pass every sale with its items, newest first, to the action as it is read
+     * (streamed responses: the list is never held in memory)
+     *
+     * Sales and items are read by two cursors in the same order (sale id
+     * descending), so each sale's items are next in the item cursor.
+     */
+    @Transactional(readOnly = true)
+    public void streamSales(Consumer<SaleListDTO> action) {
+        try (Stream<SaleListDTO> sales = saleRepository.streamList();
+             Stream<SaleListItemDTO> items = saleItemRepository.streamListItemsBySaleDesc()) {
+            Iterator<SaleListItemDTO> itemIterator = items.iterator();
+            SaleListItemDTO item = itemIterator.hasNext() ? itemIterator.next() : null;
+
+            for (Iterator<SaleListDTO> it = sales.iterator(); it.hasNext(); ) {
+                SaleListDTO sale = it.next();
+                while (item != null && item.getSaleId() >= sale.getId()) {
+                    if (item.getSaleId().equals(sale.getId())) {
+                        sale.getItems().add(item);
+                    }
+                    item = itemIterator.hasNext() ? itemIterator.next() : null;
+                }
+                action.accept(sale);
+            }
+        }
     }
 
+    /**
+     * Get a sale with its items (rendered after the transaction, so loaded here)
+     */
     public Sale getSaleById(Long id) {
-        return saleRepository.findById(id)
+        return getSaleWithItems(id);
+    }
+
+    /**
+     * Get a sale with its items and products loaded in a single query
+     * Used by the paths that walk every item (stock movements, rollup).
+     */
+    private Sale getSaleWithItems(Long id) {
+        return saleRepository.findWithItemsById(id)
                 .orElseThrow(() -> new RuntimeException("Sale not found with id: " + id));
     }
 
@@ -60,6 +145,11 @@ public class SaleService {
             sale.setClient(client);
         }
 
+        // SALE-n references are reserved for generated ones
+        if (SaleReferenceAllocator.isGeneratedReference(sale.getSaleReference())) {
+            throw new RuntimeException("Sale references of the form SALE-<number> are generated automatically");
+        }
+
         // Check if reference already exists
         if (sale.getSaleReference() != null && saleRepository.existsBySaleReference(sale.getSaleReference())) {
             throw new RuntimeException("Sale reference already exists");
@@ -83,6 +173,9 @@ public class SaleService {
                     item.setUnitPrice(product.getSellingPrice());
                 }
 
+                // Capture unit cost for reporting
+                item.setUnitCost(product.getCostPrice());
+
                 // Calculate subtotal
                 item.calculateSubtotal();
 
@@ -104,7 +197,15 @@ public class SaleService {
         // Calculate total amount
         sale.calculateTotalAmount();
 
-        return saleRepository.save(sale);
+        Sale saved = saleRepository.save(sale);
+
+        // Keep the daily sales rollup in sync
+        if ("PAID".equalsIgnoreCase(saved.getStatus())) {
+            salesRollupService.recordSale(saved);
+        }
+
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+        return saved;
     }
 
     /**
@@ -112,13 +213,15 @@ public class SaleService {
      */
     @Transactional
     public Sale updateSaleStatus(Long id, String status) {
-        Sale sale = getSaleById(id);
+        Sale sale = getSaleWithItems(id);
         String oldStatus = sale.getStatus();
+        boolean wasPaid = "PAID".equalsIgnoreCase(oldStatus);
+        boolean isPaid = "PAID".equalsIgnoreCase(status);
 
         sale.setStatus(status);
 
         // If changing to PAID, remove stock
-        if ("PAID".equalsIgnoreCase(status) && !"PAID".equalsIgnoreCase(oldStatus)) {
+        if (isPaid && !wasPaid) {
             for (SaleItem item : sale.getItems()) {
                 stockService.removeStock(
                         item.getProduct().getId(),
@@ -127,9 +230,14 @@ public class SaleService {
                         sale.getSaleReference()
                 );
             }
+            salesRollupService.recordSale(sale);
+        } else if (wasPaid && !isPaid) {
+            salesRollupService.reverseSale(sale);
         }
 
-        return saleRepository.save(sale);
+        Sale saved = saleRepository.save(sale);
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+        return saved;
     }
 
     /**
@@ -137,7 +245,7 @@ public class SaleService {
      */
     @Transactional
     public void deleteSale(Long id) {
-        Sale sale = getSaleById(id);
+        Sale sale = getSaleWithItems(id);
 
         // If sale was paid, add stock back
         if ("PAID".equalsIgnoreCase(sale.getStatus())) {
@@ -149,9 +257,11 @@ public class SaleService {
                         sale.getSaleReference()
                 );
             }
+            salesRollupService.reverseSale(sale);
         }
 
         saleRepository.delete(sale);
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
     }
 
     public List<Sale> getSalesByClient(Long clientId) {
@@ -159,7 +269,7 @@ public class SaleService {
     }
 
     public List<Sale> getSalesByStatus(String status) {
-        return saleRepository.findByStatus(status);
+        return saleRepository.findByStatus(status != null ? status.toUpperCase(Locale.ROOT) : null);
     }
 
     public List<Sale> getSalesByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
@@ -182,8 +292,6 @@ public class SaleService {
      * Generate unique sale reference
      */
     private String generateSaleReference() {
-        String prefix = "SALE-";
-        long count = saleRepository.count() + 1;
-        return prefix + String.format("%06d", count);
+        return saleReferenceAllocator.nextReference();
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.smartinventory.service;
+
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.repository.DailyProductSalesRepository;
+import com.smartinventory.repository.SaleRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * SalesRollupService - Maintains the daily_product_sales rollup
+ *
+ * Only PAID sales are counted. Callers (SaleService, SaleItemService) record or
+ * reverse a sale inside their own transaction, so the rollup always commits or
+ * rolls back together with the sale.
+ *
+ * Every change is also announced as a ReportDataChangedEvent (SALES, with the
+ * day of the sale), so cached reports covering that day are dropped. A whole
+ * sale is announced once, not once per item.
+ */
+@Service
+public class SalesRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupService.class);
+
+    private final DailyProductSalesRepository rollupRepository;
+    private final SaleRepository saleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public SalesRollupService(DailyProductSalesRepository rollupRepository,
+                              SaleRepository saleRepository,
+                              ApplicationEventPublisher eventPublisher) {
+        this.rollupRepository = rollupRepository;
+        this.saleRepository = saleRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Add all items of a paid sale to the rollup
+     */
+    @Transactional
+    public void recordSale(Sale sale) {
+        for (SaleItem item : sale.getItems()) {
+            addToDay(sale, item, 1);
+        }
+        publishChange(sale);
+    }
+
+    /**
+     * Remove all items of a previously paid sale from the rollup
+     */
+    @Transactional
+    public void reverseSale(Sale sale) {
+        for (SaleItem item : sale.getItems()) {
+            addToDay(sale, item, -1);
+        }
+        publishChange(sale);
+    }
+
+    /**
+     * Add (sign = 1) or remove (sign = -1) a single sale item
+     */
+    @Transactional
+    public void applyItem(Sale sale, SaleItem item, int sign) {
+        addToDay(sale, item, sign);
+        publishChange(sale);
+    }
+
+    private void addToDay(Sale sale, SaleItem item, int sign) {
+        Product product = item.getProduct();
+        int quantity = item.getQuantity() != null ? item.getQuantity() : 0;
+        long subtotalCents = item.getSubtotalCents() != null ? item.getSubtotalCents() : 0L;
+        Long unitCostCents = item.getUnitCostCents() != null ? item.getUnitCostCents() : product.getCostPriceCents();
+        long costCents = unitCostCents != null ? unitCostCents * quantity : 0L;
+
+        rollupRepository.addToDay(
+                sale.getSaleDate().toLocalDate(),
+                product.getId(),
+                (long) sign * quantity,
+                sign * subtotalCents,
+                sign * costCents,
+                sign
+        );
+    }
+
+    private void publishChange(Sale sale) {
+        eventPublisher.publishEvent(ReportDataChangedEvent.sales(sale.getSaleDate().toLocalDate()));
+    }
+
+    /**
+     * Rebuild the rollup from all existing sales (backfill)
+     *
+     * @return number of rollup rows written
+     */
+    @Transactional
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        rollupRepository.deleteAllInBatch();
+        int rows = rollupRepository.rebuildFromSales();
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SALES));
+        log.info("Rebuilt daily sales rollup: {} rows in {} ms", rows, System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    /**
+     * Backfill the rollup on startup if it is empty but paid sales exist
+     * (first boot after the rollup table was introduced)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0 && saleRepository.countByStatus("PAID") > 0) {
+            rebuild();
+        }
+    }
+}
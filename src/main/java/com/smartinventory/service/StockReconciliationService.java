@@ -0,0 +1,80 @@
+package com.smartinventory.service;
+
+import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * StockReconciliationService - Keeps product.on_hand honest
+ *
+ * on_hand is maintained incrementally by StockService. This job compares it with
+ * SUM(stock.quantity) for every product and resets any product that drifted
+ * (e.g. rows written outside the application, or databases created before the
+ * column existed). It runs once at startup and then periodically.
+ */
+@Service
+public class StockReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReconciliationService.class);
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public StockReconciliationService(ProductRepository productRepository,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Reconcile on startup so existing databases get a correct balance
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Periodic reconciliation (default: every hour)
+     */
+    @Scheduled(fixedDelayString = "${stock.reconciliation.interval-ms:3600000}",
+            initialDelayString = "${stock.reconciliation.interval-ms:3600000}")
+    @Transactional
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Compare on_hand with the stock ledger and fix mismatches
+     *
+     * @return number of products corrected
+     */
+    @Transactional
+    public int reconcile() {
+        List<Object[]> mismatches = productRepository.findOnHandMismatches();
+
+        for (Object[] row : mismatches) {
+            Long productId = ((Number) row[0]).longValue();
+            log.warn("Stock balance drift for product {}: on_hand={}, ledger={}", productId, row[1], row[2]);
+            productRepository.resetOnHandFromLedger(productId);
+        }
+
+        if (!mismatches.isEmpty()) {
+            eventPublisher.publishEvent(ReportDataChangedEvent.stock());
+            eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS));
+        }
+        return mismatches.size();
+    }
+}
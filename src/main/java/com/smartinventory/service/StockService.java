@@ -1,32 +1,61 @@
 package com.smartinventory.service;
 
+import com.smartinventory.dto.CursorPage;
+import com.smartinventory.dto.StockListDTO;
 import com.smartinventory.model.Stock;
 import com.smartinventory.model.Product;
 import com.smartinventory.repository.StockRepository;
 import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("inventory.service")
 public class StockService {
 
     private final StockRepository stockRepository;
     private final ProductRepository productRepository;
+    private final PaginationSupport paginationSupport;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public StockService(StockRepository stockRepository, ProductRepository productRepository) {
+    public StockService(StockRepository stockRepository, ProductRepository productRepository,
+                        PaginationSupport paginationSupport, ApplicationEventPublisher eventPublisher) {
         this.stockRepository = stockRepository;
         this.productRepository = productRepository;
+        this.paginationSupport = paginationSupport;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Get all stock movements
+     * Get one page of stock movements, newest first
      */
-    public List<Stock> getAllStockMovements() {
-        return stockRepository.findAll();
+    public CursorPage<StockListDTO> getStockMovementsPage(String cursor, Integer limit) {
+        Long beforeId = paginationSupport.decodeCursor(cursor);
+        int size = paginationSupport.resolveLimit(limit);
+        List<StockListDTO> rows = stockRepository.findListPageBefore(
+                beforeId != null ? beforeId : Long.MAX_VALUE, paginationSupport.probe(size));
+        return paginationSupport.toPage(rows, size, StockListDTO::getId);
+    }
+
+    /**
+     * Pass every stock movement, newest first, to the action as it is read
+     * (streamed responses: the list is never held in memory)
+     */
+    @Transactional(readOnly = true)
+    public void streamStockMovements(Consumer<StockListDTO> action) {
+        try (Stream<StockListDTO> rows = stockRepository.streamList()) {
+            rows.forEach(action);
+        }
     }
 
     /**
@@ -39,7 +68,9 @@ public class StockService {
 
     /**
      * Add stock (incoming stock)
+     * The movement and the product's on_hand balance are written in one transaction
      */
+    @Transactional
     public Stock addStock(Long productId, Integer quantity, String reason, String reference) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
@@ -49,12 +80,20 @@ public class StockService {
         }
 
         Stock stock = new Stock(product, quantity, "IN", reason, reference);
-        return stockRepository.save(stock);
+        Stock saved = stockRepository.save(stock);
+        adjustOnHand(product, quantity);
+        return saved;
     }
 
     /**
      * Remove stock (outgoing stock)
+     *
+     * The availability check and the decrement are a single conditional UPDATE
+     * (on_hand >= quantity), so two concurrent checkouts for the same product can
+     * never both succeed past the available stock. Checks on different products
+     * don't block each other beyond SQLite's own write lock.
      */
+    @Transactional
     public Stock removeStock(Long productId, Integer quantity, String reason, String reference) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
@@ -63,11 +102,14 @@ public class StockService {
             throw new RuntimeException("Quantity must be positive for stock removal");
         }
 
-        // Check if enough stock available
-        int currentStock = stockRepository.calculateTotalStock(productId);
-        if (currentStock < quantity) {
-            throw new RuntimeException("Insufficient stock. Available: " + currentStock + ", Requested: " + quantity);
+        // Reserve the stock (fails if not enough available)
+        if (productRepository.reserveStock(productId, quantity) == 0) {
+            int available = productRepository.findOnHandById(productId).orElse(0);
+            throw new RuntimeException("Insufficient stock. Available: " + available + ", Requested: " + quantity);
         }
+        product.setOnHand(product.getCurrentStock() - quantity);
+        eventPublisher.publishEvent(ReportDataChangedEvent.stock());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS, Table.STOCK));
 
         Stock stock = new Stock(product, -quantity, "OUT", reason, reference);
         return stockRepository.save(stock);
@@ -95,10 +137,11 @@ public class StockService {
     }
 
     /**
-     * Calculate current stock for a product
+     * Get current stock for a product (persisted on_hand balance)
      */
     public Integer calculateCurrentStock(Long productId) {
-        return stockRepository.calculateTotalStock(productId);
+        return productRepository.findOnHandById(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
     }
 
     /**
@@ -114,4 +157,15 @@ public class StockService {
     public List<Stock> getStockRemovals() {
         return stockRepository.findStockRemovals();
     }
+
+    /**
+     * Apply a delta to the product's on_hand balance in the database and keep
+     * the managed entity in step (the column is never written from the entity)
+     */
+    private void adjustOnHand(Product product, int delta) {
+        productRepository.adjustOnHand(product.getId(), delta);
+        product.setOnHand(product.getCurrentStock() + delta);
+        eventPublisher.publishEvent(ReportDataChangedEvent.stock());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.PRODUCTS, Table.STOCK));
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.smartinventory.service;
 
 import com.smartinventory.model.Supplier;
 import com.smartinventory.repository.SupplierRepository;
+import com.smartinventory.service.DataChangedEvent.Table;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,10 +13,12 @@ import java.util.List;
 public class SupplierService {
 
     private final SupplierRepository supplierRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public SupplierService(SupplierRepository supplierRepository) {
+    public SupplierService(SupplierRepository supplierRepository, ApplicationEventPublisher eventPublisher) {
         this.supplierRepository = supplierRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Supplier> getAllSuppliers() {
@@ -30,7 +34,10 @@ public class SupplierService {
         if (supplierRepository.existsByName(supplier.getName())) {
             throw new RuntimeException("Supplier with name " + supplier.getName() + " already exists");
         }
-        return supplierRepository.save(supplier);
+        Supplier saved = supplierRepository.save(supplier);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SUPPLIERS));
+        return saved;
     }
 
     public Supplier updateSupplier(Long id, Supplier supplierDetails) {
@@ -59,12 +66,17 @@ public class SupplierService {
             supplier.setAddress(supplierDetails.getAddress());
         }
 
-        return supplierRepository.save(supplier);
+        Supplier saved = supplierRepository.save(supplier);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SUPPLIERS));
+        return saved;
     }
 
     public void deleteSupplier(Long id) {
         Supplier supplier = getSupplierById(id);
         supplierRepository.delete(supplier);
+        eventPublisher.publishEvent(ReportDataChangedEvent.all());
+        eventPublisher.publishEvent(DataChangedEvent.of(Table.SUPPLIERS));
     }
 
     public List<Supplier> searchSuppliers(String searchTerm) {
@@ -6,34 +6,49 @@ import com.smartinventory.repository.AuthRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
 import java.util.Optional;
 
 /**
  * TokenBlacklistService - Manages JWT token blacklisting for logout
  *
  * This service:
- * 1. Stores tokens in database when issued
+ * 1. Stores tokens in database when issued (by the hash of their jti, not the JWT itself)
  * 2. Marks tokens as revoked on logout
  * 3. Checks if tokens are blacklisted during authentication
- * 4. Cleans up expired tokens
+ *
+ * Revocations are mirrored into RevokedTokenCache (keyed by the hex token hash),
+ * so checking a token that was never revoked needs no database query.
+ *
+ * Note: the cache is filled from the database only on startup. A token revoked
+ * through another instance sharing the same database is NOT seen by this one
+ * until it restarts (or the token expires). Run a single instance, or route
+ * logout to every instance, if that matters.
  */
 @Service
 public class TokenBlacklistService {
 
     private final AuthRepository authRepository;
     private final JwtService jwtService;
+    private final RevokedTokenCache revokedTokenCache;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
     @Autowired
-    public TokenBlacklistService(AuthRepository authRepository, JwtService jwtService) {
+    public TokenBlacklistService(AuthRepository authRepository, JwtService jwtService,
+                                 RevokedTokenCache revokedTokenCache) {
         this.authRepository = authRepository;
         this.jwtService = jwtService;
+        this.revokedTokenCache = revokedTokenCache;
     }
 
     /**
@@ -52,7 +67,7 @@ public class TokenBlacklistService {
         String ipAddress = getClientIpAddress(request);
 
         // Create Auth entity
-        Auth auth = new Auth(user, token, expiresAt, userAgent, ipAddress);
+        Auth auth = new Auth(user, jwtService.extractTokenHash(token), expiresAt, userAgent, ipAddress);
         auth.setTokenType("Bearer");
 
         // Save to database
@@ -67,12 +82,13 @@ public class TokenBlacklistService {
      */
     @Transactional
     public boolean revokeToken(String token) {
-        Optional<Auth> authOpt = authRepository.findByToken(token);
+        Optional<Auth> authOpt = authRepository.findByTokenHash(jwtService.extractTokenHash(token));
 
         if (authOpt.isPresent()) {
             Auth auth = authOpt.get();
             auth.revoke();
             authRepository.save(auth);
+            cacheRevoked(auth);
             return true;
         }
 
@@ -86,9 +102,10 @@ public class TokenBlacklistService {
      */
     @Transactional
     public void revokeAllUserTokens(Long userId) {
-        authRepository.findActiveTokensByUserId(userId).forEach(auth -> {
+        authRepository.findActiveTokensByUserId(userId, LocalDateTime.now()).forEach(auth -> {
             auth.revoke();
             authRepository.save(auth);
+            cacheRevoked(auth);
         });
     }
 
@@ -99,7 +116,16 @@ public class TokenBlacklistService {
      * @return true if token is blacklisted
      */
     public boolean isTokenBlacklisted(String token) {
-        Optional<Auth> authOpt = authRepository.findByToken(token);
+        byte[] tokenHash = jwtService.extractTokenHash(token);
+        String key = cacheKey(tokenHash);
+
+        RevokedTokenCache.Lookup lookup = revokedTokenCache.lookup(key);
+        if (lookup != RevokedTokenCache.Lookup.UNKNOWN) {
+            return lookup == RevokedTokenCache.Lookup.REVOKED;
+        }
+
+        // Cache overflowed - confirm against the database
+        Optional<Auth> authOpt = authRepository.findByTokenHash(tokenHash);
 
         if (authOpt.isEmpty()) {
             // Token not found in database - not blacklisted
@@ -118,15 +144,45 @@ public class TokenBlacklistService {
      * @return true if token is valid
      */
     public boolean isTokenValid(String token) {
-        return authRepository.isTokenValid(token);
+        return authRepository.isTokenValid(jwtService.extractTokenHash(token), LocalDateTime.now());
     }
 
     /**
-     * Clean up expired tokens (should be run periodically)
+     * Load revoked, unexpired tokens into the cache on startup
      */
-    @Transactional
-    public void cleanupExpiredTokens() {
-        authRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        for (Object[] row : authRepository.findRevokedUnexpiredTokens(LocalDateTime.now())) {
+            revokedTokenCache.add(cacheKey((byte[]) row[0]), toEpochMillis((LocalDateTime) row[1]));
+        }
+    }
+
+    /**
+     * Drop expired tokens from the revocation cache
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation-cache.eviction-interval-ms:60000}")
+    public void evictExpiredFromCache() {
+        revokedTokenCache.evictExpired();
+    }
+
+    /**
+     * Add a revoked token to the cache
+     * Done before commit: if the transaction rolls back the token stays
+     * blocked until it expires, which fails safe.
+     */
+    private void cacheRevoked(Auth auth) {
+        revokedTokenCache.add(cacheKey(auth.getTokenHash()), toEpochMillis(auth.getExpiresAt()));
+    }
+
+    /**
+     * Cache key of a token: hex of its token hash
+     */
+    private String cacheKey(byte[] tokenHash) {
+        return HexFormat.of().formatHex(tokenHash);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     /**
@@ -156,7 +212,7 @@ public class TokenBlacklistService {
      * @return Number of active sessions
      */
     public int getActiveSessionCount(Long userId) {
-        return authRepository.findActiveTokensByUserId(userId).size();
+        return authRepository.findActiveTokensByUserId(userId, LocalDateTime.now()).size();
     }
 }
 
@@ -165,7 +221,7 @@ public class TokenBlacklistService {
  *
  * 1. USER LOGS IN:
  *    - Server generates JWT token
- *    - Token is stored in Auth table with revoked=false
+ *    - Hash of the token's jti is stored in Auth table with revoked=false
  *    - Token is returned to client
  *
  * 2. USER MAKES REQUESTS:
@@ -180,7 +236,7 @@ public class TokenBlacklistService {
  *    - Token becomes invalid immediately
  *
  * 4. CLEANUP:
- *    - Expired tokens are periodically deleted from database
+ *    - Expired tokens are periodically deleted from database (TokenPurgeService)
  *    - Keeps database size manageable
  *
  * BENEFITS:
@@ -190,7 +246,8 @@ public class TokenBlacklistService {
  * - Audit trail (track login history)
  *
  * DRAWBACKS:
- * - Database query on every request (performance impact)
+ * - Revoked tokens kept in memory (RevokedTokenCache) to avoid a
+ *   database query on every request; the cache is per instance
  * - More complex than pure stateless JWT
  * - Database storage required
  *
@@ -0,0 +1,126 @@
+package com.smartinventory.service;
+
+import com.smartinventory.repository.AuthRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenPurgeService - Deletes expired rows from the auth table
+ *
+ * Every login adds an auth row, so expired ones are purged periodically. Rows
+ * are deleted in batches (auth.purge.batch-size per statement), each batch in
+ * its own short transaction with a pause in between, so the purge never holds
+ * the SQLite write lock for long.
+ */
+@Service
+public class TokenPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenPurgeService.class);
+
+    private final AuthRepository authRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auth.purge.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${auth.purge.pause-ms:50}")
+    private long pauseMillis;
+
+    // Counters
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong totalRowsPurged = new AtomicLong();
+    private final AtomicLong lastRunRowsPurged = new AtomicLong();
+    private final AtomicLong lastRunDurationMs = new AtomicLong();
+    private final AtomicLong tableSize = new AtomicLong(-1);
+
+    @Autowired
+    public TokenPurgeService(AuthRepository authRepository, PlatformTransactionManager transactionManager) {
+        this.authRepository = authRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Periodic purge (default: every hour)
+     */
+    @Scheduled(fixedDelayString = "${auth.purge.interval-ms:3600000}",
+            initialDelayString = "${auth.purge.initial-delay-ms:60000}")
+    public void scheduledPurge() {
+        purgeExpired();
+    }
+
+    /**
+     * Delete all tokens that expired before now, batch by batch
+     *
+     * @return number of rows deleted
+     */
+    public long purgeExpired() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now();
+        long purged = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    authRepository.deleteExpiredBatch(cutoff, batchSize));
+            int count = deleted != null ? deleted : 0;
+            purged += count;
+            if (count < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        runs.incrementAndGet();
+        totalRowsPurged.addAndGet(purged);
+        lastRunRowsPurged.set(purged);
+        lastRunDurationMs.set(duration);
+        tableSize.set(authRepository.count());
+
+        if (purged > 0) {
+            log.info("Purged {} expired auth tokens in {} ms ({} remaining)", purged, duration, tableSize.get());
+        }
+        return purged;
+    }
+
+    /**
+     * Purge statistics: runs, totalRowsPurged, lastRunRowsPurged, lastRunDurationMs, tableSize
+     * (tableSize is -1 until the first run)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("runs", runs.get());
+        stats.put("totalRowsPurged", totalRowsPurged.get());
+        stats.put("lastRunRowsPurged", lastRunRowsPurged.get());
+        stats.put("lastRunDurationMs", lastRunDurationMs.get());
+        stats.put("tableSize", tableSize.get());
+        return stats;
+    }
+
+    /**
+     * Give other writers a chance between batches
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
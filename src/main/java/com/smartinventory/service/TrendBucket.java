@@ -0,0 +1,76 @@
+package com.smartinventory.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * TrendBucket - Bucket size for sales trend reports (day, week or month)
+ *
+ * Each bucket carries the two SQLite date modifiers that move a sale date to
+ * the first day of its bucket, so the database can GROUP BY the bucket directly.
+ * Weeks start on Monday.
+ */
+public enum TrendBucket {
+
+    DAY("start of day", "+0 days"),
+    WEEK("-6 days", "weekday 1"),
+    MONTH("start of month", "+0 days");
+
+    private final String startModifier;
+    private final String alignModifier;
+
+    TrendBucket(String startModifier, String alignModifier) {
+        this.startModifier = startModifier;
+        this.alignModifier = alignModifier;
+    }
+
+    public String getStartModifier() {
+        return startModifier;
+    }
+
+    public String getAlignModifier() {
+        return alignModifier;
+    }
+
+    /**
+     * First day of the bucket containing the given date
+     */
+    public LocalDate startOf(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * First day of the bucket following the given bucket start
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        switch (this) {
+            case WEEK:
+                return bucketStart.plusWeeks(1);
+            case MONTH:
+                return bucketStart.plusMonths(1);
+            default:
+                return bucketStart.plusDays(1);
+        }
+    }
+
+    /**
+     * Parse a bucket name (case-insensitive)
+     * @throws RuntimeException if the name is not a known bucket
+     */
+    public static TrendBucket fromString(String value) {
+        for (TrendBucket bucket : values()) {
+            if (bucket.name().equalsIgnoreCase(value)) {
+                return bucket;
+            }
+        }
+        throw new RuntimeException("Invalid trend bucket: " + value + " (expected day, week or month)");
+    }
+}
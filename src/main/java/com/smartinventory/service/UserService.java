@@ -16,11 +16,14 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     // ============================================
@@ -83,6 +86,7 @@ public class UserService {
      */
     public User updateUser(Long id, User userDetails) {
         User user = getUserById(id);
+        String oldUsername = user.getUsername();
 
         // Update fields
         if (userDetails.getUsername() != null && !userDetails.getUsername().equals(user.getUsername())) {
@@ -108,7 +112,10 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(oldUsername);
+        principalCache.invalidate(saved.getUsername());
+        return saved;
     }
 
     /**
@@ -117,6 +124,7 @@ public class UserService {
     public void deleteUser(Long id) {
         User user = getUserById(id);
         userRepository.delete(user);
+        principalCache.invalidate(user.getUsername());
     }
 
     // ============================================
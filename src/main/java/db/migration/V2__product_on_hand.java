@@ -0,0 +1,48 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * V2 - Running stock balance per product (maintained by StockService) and the
+ * unit cost captured when a sale item is recorded
+ *
+ * A Java migration because SQLite has no ADD COLUMN IF NOT EXISTS: databases
+ * opened by builds that still used ddl-auto=update may already have either
+ * column (they are baselined at V1 like any pre-migration database).
+ */
+public class V2__product_on_hand extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (!hasColumn(connection, "product", "on_hand")) {
+                statement.execute("ALTER TABLE product ADD COLUMN on_hand integer not null default 0");
+            }
+            statement.execute("UPDATE product " +
+                    "SET on_hand = COALESCE((SELECT SUM(s.quantity) FROM stock s WHERE s.product_id = product.id), 0)");
+
+            if (!hasColumn(connection, "sale_item", "unit_cost")) {
+                statement.execute("ALTER TABLE sale_item ADD COLUMN unit_cost float");
+            }
+        }
+    }
+
+    private static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet columns = statement.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (columns.next()) {
+                if (column.equalsIgnoreCase(columns.getString("name"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
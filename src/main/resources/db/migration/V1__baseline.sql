@@ -0,0 +1,112 @@
+-- Initial schema, as previously generated by Hibernate (ddl-auto=update).
+-- Databases created before migrations were introduced are baselined at this
+-- version (spring.flyway.baseline-on-migrate) and continue with V2.
+
+CREATE TABLE user (
+    id integer,
+    created_at timestamp not null,
+    email varchar(120) not null unique,
+    password varchar(255) not null,
+    role varchar(50) not null,
+    updated_at timestamp,
+    username varchar(80) not null unique,
+    primary key (id)
+);
+
+CREATE TABLE auth (
+    id integer,
+    created_at timestamp not null,
+    expires_at timestamp not null,
+    ip_address varchar(50),
+    revoked boolean not null,
+    token varchar(1000) not null,
+    token_type varchar(20),
+    user_agent varchar(500),
+    user_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE category (
+    id integer,
+    created_at timestamp not null,
+    description varchar(500),
+    name varchar(100) not null unique,
+    updated_at timestamp,
+    primary key (id)
+);
+
+CREATE TABLE supplier (
+    id integer,
+    address varchar(500),
+    contact_person varchar(100),
+    created_at timestamp not null,
+    email varchar(120),
+    name varchar(150) not null unique,
+    phone varchar(20),
+    updated_at timestamp,
+    primary key (id)
+);
+
+CREATE TABLE client (
+    id integer,
+    address varchar(500),
+    company varchar(50),
+    created_at timestamp not null,
+    email varchar(120),
+    name varchar(150) not null,
+    phone varchar(20),
+    updated_at timestamp,
+    primary key (id)
+);
+
+CREATE TABLE product (
+    id integer,
+    brand varchar(100),
+    cost_price float,
+    created_at timestamp not null,
+    description varchar(1000),
+    name varchar(200) not null,
+    selling_price float,
+    sku varchar(50) not null unique,
+    updated_at timestamp,
+    category_id bigint,
+    supplier_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE stock (
+    id integer,
+    created_at timestamp not null,
+    movement_type varchar(10) not null,
+    quantity integer not null,
+    reason varchar(500),
+    reference varchar(100),
+    product_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE sale (
+    id integer,
+    created_at timestamp not null,
+    notes varchar(1000),
+    payment_method varchar(50),
+    sale_date timestamp not null,
+    sale_reference varchar(50) unique,
+    status varchar(20) not null,
+    total_amount float not null,
+    updated_at timestamp,
+    client_id bigint,
+    primary key (id)
+);
+
+CREATE TABLE sale_item (
+    id integer,
+    created_at timestamp not null,
+    discount float,
+    quantity integer not null,
+    subtotal float not null,
+    unit_price float not null,
+    product_id bigint not null,
+    sale_id bigint not null,
+    primary key (id)
+);
@@ -0,0 +1,20 @@
+-- Daily sales rollup per product (maintained by SalesRollupService,
+-- backfilled from existing sales on first startup)
+
+-- Builds that used ddl-auto=update may have created the table without its
+-- unique key. The rollup only holds derived data, so it is recreated.
+DROP TABLE IF EXISTS daily_product_sales;
+
+CREATE TABLE daily_product_sales (
+    id integer,
+    sale_day date not null,
+    product_id bigint not null,
+    category_id bigint,
+    supplier_id bigint,
+    quantity bigint not null,
+    revenue float not null,
+    cost float not null,
+    line_count bigint not null,
+    primary key (id),
+    constraint uk_daily_product_sales_day_product unique (sale_day, product_id)
+);
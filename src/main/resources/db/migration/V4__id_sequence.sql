@@ -0,0 +1,8 @@
+-- Named number sequences (SaleReferenceAllocator)
+
+-- IF NOT EXISTS: builds that used ddl-auto=update may have created it already
+CREATE TABLE IF NOT EXISTS id_sequence (
+    name varchar(50) not null,
+    next_value bigint not null,
+    primary key (name)
+);
@@ -0,0 +1,18 @@
+-- Identify stored tokens by the SHA-256 of their jti instead of the full JWT.
+-- Existing rows only track login sessions, so the table is recreated rather
+-- than converted.
+
+DROP TABLE auth;
+
+CREATE TABLE auth (
+    id integer,
+    created_at timestamp not null,
+    expires_at timestamp not null,
+    ip_address varchar(50),
+    revoked boolean not null,
+    token_hash blob not null unique,
+    token_type varchar(20),
+    user_agent varchar(500),
+    user_id bigint not null,
+    primary key (id)
+);
@@ -0,0 +1,18 @@
+-- Indexes for the hot lookup paths (see @Table(indexes) on the entities)
+-- IF NOT EXISTS: builds that used ddl-auto=update created the same indexes
+
+CREATE INDEX IF NOT EXISTS idx_stock_product_created ON stock (product_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_stock_created_at ON stock (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_sale_status_date ON sale (status, sale_date);
+CREATE INDEX IF NOT EXISTS idx_sale_sale_date ON sale (sale_date);
+CREATE INDEX IF NOT EXISTS idx_sale_client ON sale (client_id);
+
+CREATE INDEX IF NOT EXISTS idx_sale_item_sale ON sale_item (sale_id);
+CREATE INDEX IF NOT EXISTS idx_sale_item_product ON sale_item (product_id);
+
+CREATE INDEX IF NOT EXISTS idx_product_category ON product (category_id);
+CREATE INDEX IF NOT EXISTS idx_product_supplier ON product (supplier_id);
+
+CREATE INDEX IF NOT EXISTS idx_auth_user_revoked_expires ON auth (user_id, revoked, expires_at);
+CREATE INDEX IF NOT EXISTS idx_auth_expires_at ON auth (expires_at);
@@ -0,0 +1,25 @@
+-- Prices used by reports, stored as integer cents next to the float columns
+-- (see Money)
+
+ALTER TABLE product ADD COLUMN cost_price_cents bigint;
+ALTER TABLE product ADD COLUMN selling_price_cents bigint;
+
+UPDATE product
+SET cost_price_cents = CAST(ROUND(cost_price * 100) AS INTEGER),
+    selling_price_cents = CAST(ROUND(selling_price * 100) AS INTEGER);
+
+ALTER TABLE sale_item ADD COLUMN unit_cost_cents bigint;
+ALTER TABLE sale_item ADD COLUMN subtotal_cents bigint not null default 0;
+
+UPDATE sale_item
+SET unit_cost_cents = CAST(ROUND(unit_cost * 100) AS INTEGER),
+    subtotal_cents = CAST(ROUND(subtotal * 100) AS INTEGER);
+
+-- The rollup only keeps cents. Its rows are dropped here and rebuilt from the
+-- sale items by SalesRollupService on the next startup.
+DELETE FROM daily_product_sales;
+
+ALTER TABLE daily_product_sales DROP COLUMN revenue;
+ALTER TABLE daily_product_sales DROP COLUMN cost;
+ALTER TABLE daily_product_sales ADD COLUMN revenue_cents bigint not null default 0;
+ALTER TABLE daily_product_sales ADD COLUMN cost_cents bigint not null default 0;
@@ -0,0 +1,5 @@
+-- The rollup no longer stores category and supplier: reports join the
+-- product's current ones, like the queries over raw sale items do.
+
+ALTER TABLE daily_product_sales DROP COLUMN category_id;
+ALTER TABLE daily_product_sales DROP COLUMN supplier_id;
@@ -0,0 +1,9 @@
+-- Sale status is stored in upper case (see Sale.setStatus), so the
+-- status = 'PAID' filters of the report queries match every paid sale.
+-- If any status was not, the rollup is cleared first and rebuilt from the
+-- fixed sales on startup (SalesRollupService.backfillIfEmpty).
+
+DELETE FROM daily_product_sales
+WHERE EXISTS (SELECT 1 FROM sale WHERE status <> UPPER(status));
+
+UPDATE sale SET status = UPPER(status) WHERE status <> UPPER(status);
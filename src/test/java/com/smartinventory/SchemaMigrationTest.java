@@ -0,0 +1,110 @@
+package com.smartinventory;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway migrations on databases created before the schema was managed by
+ * Flyway (ddl-auto=update), with the same settings as application.properties.
+ */
+class SchemaMigrationTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void authTableWithPlainTokensIsReplaced() throws Exception {
+        String url = SqliteIntegrationTest.jdbcUrl(directory.resolve("baseline.db"));
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            runScript(statement, "db/migration/V1__baseline.sql");
+            statement.execute("INSERT INTO user (id, created_at, email, password, role, username) " +
+                    "VALUES (1, 0, 'a@test.local', 'x', 'USER', 'a')");
+            statement.execute("INSERT INTO auth (created_at, expires_at, revoked, token, user_id) " +
+                    "VALUES (0, 0, 0, 'eyJhbGciOi...', 1)");
+        }
+
+        migrate(url);
+
+        assertThat(columns(url, "auth")).contains("token_hash").doesNotContain("token");
+        insertAuthWithHash(url);
+    }
+
+    @Test
+    void authTableCreatedWithTokenHashIsAccepted() throws Exception {
+        // Tables as created by ddl-auto=update between user-009 and user-013
+        String url = SqliteIntegrationTest.jdbcUrl(directory.resolve("token-hash.db"));
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            runScript(statement, "db/migration/V1__baseline.sql");
+            statement.execute("DROP TABLE auth");
+            statement.execute("CREATE TABLE auth (id integer, created_at timestamp not null, " +
+                    "expires_at timestamp not null, ip_address varchar(50), revoked boolean not null, " +
+                    "token_hash blob not null unique, token_type varchar(20), user_agent varchar(500), " +
+                    "user_id bigint not null, primary key (id))");
+        }
+
+        migrate(url);
+
+        assertThat(columns(url, "auth")).contains("token_hash").doesNotContain("token");
+        insertAuthWithHash(url);
+    }
+
+    private static void migrate(String url) {
+        Flyway.configure()
+                .dataSource(url, null, null)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private static void insertAuthWithHash(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO auth (created_at, expires_at, revoked, token_hash, user_id) " +
+                    "VALUES (0, 0, 0, x'00ff', 1)");
+        }
+    }
+
+    private static List<String> columns(String url, String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                columns.add(rs.getString("name"));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Run a classpath SQL script statement by statement
+     */
+    static void runScript(Statement statement, String resource) throws IOException, SQLException {
+        try (InputStream in = SchemaMigrationTest.class.getClassLoader().getResourceAsStream(resource)) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            for (String sql : script.split(";")) {
+                if (!sql.replaceAll("(?m)^--.*$", "").isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.smartinventory;
+
+import com.smartinventory.config.RequestQueryStats;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * SqliteIntegrationTest - Base class of tests that need the application context
+ *
+ * All subclasses share one context and one SQLite database file in a temp
+ * directory, migrated by Flyway like a real database. Tests create their own
+ * rows (unique names/SKUs) and must not assume the tables are empty.
+ */
+@SpringBootTest
+public abstract class SqliteIntegrationTest {
+
+    private static final Path DATABASE = createDatabaseFile();
+
+    @DynamicPropertySource
+    static void sqliteProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> jdbcUrl(DATABASE));
+    }
+
+    /**
+     * Run a call on this thread and return the SQL statements it prepared
+     * (the same bookkeeping QueryMetricsFilter does for a request)
+     */
+    protected static RequestQueryStats recordStatements(Runnable call) {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            call.run();
+        } finally {
+            RequestQueryStats.end();
+        }
+        return stats;
+    }
+
+    /**
+     * Same pragmas as application.properties
+     */
+    public static String jdbcUrl(Path database) {
+        return "jdbc:sqlite:" + database.toAbsolutePath()
+                + "?journal_mode=WAL&synchronous=NORMAL&busy_timeout=5000";
+    }
+
+    private static Path createDatabaseFile() {
+        try {
+            Path directory = Files.createTempDirectory("smartinventory-test");
+            directory.toFile().deleteOnExit();
+            return directory.resolve("test.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.smartinventory.config;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.model.Product;
+import com.smartinventory.service.ProductService;
+import com.smartinventory.service.StockService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Product ETags change after product and stock writes, and a matching
+ * If-None-Match is answered with 304 before any SQL statement runs.
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+class ConditionalGetInterceptorTest extends SqliteIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void etagChangesAfterProductAndStockWrites() throws Exception {
+        Product product = createProduct();
+        String initial = etag();
+
+        Product details = productService.getProductById(product.getId());
+        details.setName(details.getName() + " (renamed)");
+        productService.updateProduct(product.getId(), details);
+        String afterProductWrite = etag();
+
+        stockService.addStock(product.getId(), 5, "Restock", null);
+        String afterStockWrite = etag();
+
+        assertThat(afterProductWrite).isNotEqualTo(initial);
+        assertThat(afterStockWrite).isNotEqualTo(afterProductWrite);
+
+        // The old tag no longer matches
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, initial))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithoutQueries() throws Exception {
+        createProduct();
+        String etag = etag();
+        long requestsBefore = productListQueries().count();
+        double statementsBefore = productListQueries().totalAmount();
+        assertThat(statementsBefore).isPositive();
+
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+
+        // Recorded as one more request with no statements
+        assertThat(productListQueries().count()).isEqualTo(requestsBefore + 1);
+        assertThat(productListQueries().totalAmount()).isEqualTo(statementsBefore);
+    }
+
+    private String etag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+        return etag;
+    }
+
+    /**
+     * Statements per GET /api/products request (recorded by QueryMetricsFilter)
+     */
+    private DistributionSummary productListQueries() {
+        return meterRegistry.get("http.server.requests.queries")
+                .tag("method", "GET")
+                .tag("uri", "/api/products")
+                .summary();
+    }
+
+    private Product createProduct() {
+        String sku = "ETAG-" + UUID.randomUUID();
+        return productService.createProduct(new Product("ETag " + sku, null, null, sku, 1.0, 2.0));
+    }
+}
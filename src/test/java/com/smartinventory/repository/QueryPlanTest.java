@@ -0,0 +1,110 @@
+package com.smartinventory.repository;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.config.RequestQueryStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hot lookups are served by the indexes from V6__indexes.sql
+ *
+ * Each repository method is called once while RequestQueryStats records the
+ * SQL Hibernate prepares, and that exact statement is run through
+ * EXPLAIN QUERY PLAN (parameters left unbound).
+ */
+class QueryPlanTest extends SqliteIntegrationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void paidSalesInDateRangeUseStatusDateIndex() throws SQLException {
+        String plan = planOf(() -> saleRepository.calculateTotalSales(START, END));
+        assertThat(plan).containsPattern("USING (COVERING )?INDEX idx_sale_status_date ");
+    }
+
+    @Test
+    void salesInDateRangeUseSaleDateIndex() throws SQLException {
+        String plan = planOf(() -> saleRepository.findBySaleDateBetween(START, END));
+        assertThat(plan).containsPattern("USING (COVERING )?INDEX idx_sale_sale_date ");
+    }
+
+    @Test
+    void stockOfProductUsesProductCreatedIndex() throws SQLException {
+        String total = planOf(() -> stockRepository.calculateTotalStock(1L));
+        assertThat(total).containsPattern("USING (COVERING )?INDEX idx_stock_product_created ");
+
+        String recent = planOf(() -> stockRepository.findTop10ByProductIdOrderByCreatedAtDesc(1L));
+        assertThat(recent).containsPattern("USING (COVERING )?INDEX idx_stock_product_created ")
+                .doesNotContain("TEMP B-TREE");
+    }
+
+    @Test
+    void activeTokensOfUserUseUserRevokedExpiresIndex() throws SQLException {
+        String plan = planOf(() -> authRepository.findActiveTokensByUserId(1L, LocalDateTime.now()));
+        assertThat(plan).containsPattern("USING (COVERING )?INDEX idx_auth_user_revoked_expires ");
+    }
+
+    @Test
+    void expiredTokenPurgeUsesExpiresIndex() throws SQLException {
+        String plan = planOf(() -> transactionTemplate.executeWithoutResult(status -> {
+            authRepository.deleteExpiredBatch(LocalDateTime.now(), 100);
+            status.setRollbackOnly();
+        }));
+        assertThat(plan).containsPattern("USING (COVERING )?INDEX idx_auth_expires_at ");
+    }
+
+    @Test
+    void tokenLookupUsesUniqueTokenHashIndex() throws SQLException {
+        String plan = planOf(() -> authRepository.findByTokenHash(new byte[32]));
+        assertThat(plan).containsPattern("USING (COVERING )?INDEX sqlite_autoindex_auth_");
+    }
+
+    /**
+     * Query plan of the single statement a repository call runs
+     */
+    private String planOf(Runnable call) throws SQLException {
+        RequestQueryStats stats = recordStatements(call);
+        assertThat(stats.getQueryCount()).isEqualTo(1);
+        return explain(stats.getMostRepeated().getSql());
+    }
+
+    private String explain(String sql) throws SQLException {
+        List<String> details = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                details.add(rs.getString("detail"));
+            }
+        }
+        return String.join("\n", details) + "\n";
+    }
+}
@@ -0,0 +1,69 @@
+package com.smartinventory.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The cache counters shown by the stats endpoints are also published as meters.
+ */
+class CacheMetersTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void reportCacheCountsGetsByResult() {
+        ReportCache cache = new ReportCache(60_000, 10);
+        cache.bindTo(registry);
+        Set<ReportDataChangedEvent.Kind> dependsOn = Set.of(ReportDataChangedEvent.Kind.SALES);
+
+        cache.get("summary", null, null, "", dependsOn, false, () -> "a");
+        cache.get("summary", null, null, "", dependsOn, false, () -> "b");
+        cache.get("summary", null, null, "", dependsOn, true, () -> "c");
+        cache.get("sales-trend", null, null, "", dependsOn, false, () -> "d");
+
+        assertThat(gets("report.cache.gets", "hit")).isEqualTo(1);
+        assertThat(gets("report.cache.gets", "miss")).isEqualTo(2);
+        assertThat(gets("report.cache.gets", "bypass")).isEqualTo(1);
+        assertThat(registry.get("report.cache.size").gauge().value()).isEqualTo(2);
+
+        cache.invalidateAll();
+
+        assertThat(registry.get("report.cache.invalidations").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("report.cache.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void revokedTokenCacheCountsLookupsByResult() {
+        RevokedTokenCache cache = new RevokedTokenCache(1000, 0.01);
+        cache.bindTo(registry);
+        cache.add("revoked", System.currentTimeMillis() + 60_000);
+
+        assertThat(cache.lookup("revoked")).isEqualTo(RevokedTokenCache.Lookup.REVOKED);
+        assertThat(cache.lookup("active")).isEqualTo(RevokedTokenCache.Lookup.NOT_REVOKED);
+
+        assertThat(gets("auth.revocation.cache.lookups", "revoked")).isEqualTo(1);
+        assertThat(gets("auth.revocation.cache.lookups", "filtered")
+                + gets("auth.revocation.cache.lookups", "false_positive")).isEqualTo(1);
+        assertThat(gets("auth.revocation.cache.lookups", "unknown")).isZero();
+        assertThat(registry.get("auth.revocation.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void principalCacheMetersAreRegistered() {
+        PrincipalCache cache = new PrincipalCache(null, 60_000, 10);
+        cache.bindTo(registry);
+
+        assertThat(gets("auth.principal.cache.gets", "hit")).isZero();
+        assertThat(gets("auth.principal.cache.gets", "miss")).isZero();
+        assertThat(registry.get("auth.principal.cache.size").gauge().value()).isZero();
+    }
+
+    private double gets(String name, String result) {
+        return registry.get(name).tag("result", result).functionCounter().count();
+    }
+}
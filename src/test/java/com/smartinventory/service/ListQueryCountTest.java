@@ -0,0 +1,101 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.dto.CursorPage;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List pages cost a fixed number of statements, whatever the page size:
+ * one for products, stock movements and sale items, two for sales (the sales,
+ * then the items of all of them).
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListQueryCountTest extends SqliteIntegrationTest {
+
+    private static final int ROWS = 60;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private SaleItemService saleItemService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeAll
+    void createRows() {
+        for (int i = 0; i < ROWS; i++) {
+            String sku = "LIST-" + UUID.randomUUID();
+            Product product = productRepository.save(new Product("List " + sku, null, null, sku, 1.0, 2.0));
+            stockService.addStock(product.getId(), 10, "Initial stock", null);
+
+            Sale sale = new Sale();
+            sale.setStatus("PENDING");
+            sale.setPaymentMethod("CASH");
+            for (int item = 0; item < 3; item++) {
+                sale.getItems().add(new SaleItem(product, 1, 2.0));
+            }
+            saleService.createSale(sale);
+        }
+    }
+
+    @Test
+    void productPageIsOneStatement() {
+        assertStatementsPerPage(productService::getProductsPage, 1);
+    }
+
+    @Test
+    void stockPageIsOneStatement() {
+        assertStatementsPerPage(stockService::getStockMovementsPage, 1);
+    }
+
+    @Test
+    void saleItemPageIsOneStatement() {
+        assertStatementsPerPage(saleItemService::getSaleItemsPage, 1);
+    }
+
+    @Test
+    void salePageIsTwoStatements() {
+        assertStatementsPerPage(saleService::getSalesPage, 2);
+
+        CursorPage<?> page = saleService.getSalesPage(null, 50);
+        assertThat(page.getItems()).hasSize(50);
+    }
+
+    /**
+     * First and second page, at a small and a large page size
+     */
+    private void assertStatementsPerPage(BiFunction<String, Integer, CursorPage<?>> loadPage, int expected) {
+        for (int limit : new int[]{5, 50}) {
+            CursorPage<?>[] first = new CursorPage<?>[1];
+            assertThat(recordStatements(() -> first[0] = loadPage.apply(null, limit)).getQueryCount())
+                    .as("first page of %d", limit)
+                    .isEqualTo(expected);
+            assertThat(first[0].getItems()).hasSize(limit);
+
+            String next = first[0].getNext();
+            assertThat(recordStatements(() -> loadPage.apply(next, limit)).getQueryCount())
+                    .as("second page of %d", limit)
+                    .isEqualTo(expected);
+        }
+    }
+}
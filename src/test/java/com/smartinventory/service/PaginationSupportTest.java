@@ -0,0 +1,38 @@
+package com.smartinventory.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaginationSupportTest {
+
+    private final PaginationSupport paginationSupport = new PaginationSupport();
+
+    @Test
+    void cursorRoundTrips() {
+        assertThat(paginationSupport.decodeCursor(paginationSupport.encodeCursor(1234L))).isEqualTo(1234L);
+        assertThat(paginationSupport.decodeCursor(null)).isNull();
+        assertThat(paginationSupport.decodeCursor(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsIllegalArgument() {
+        String notBase64 = "%%%";
+        String wrongPrefix = base64("page:12");
+        String notANumber = base64("id:abc");
+
+        for (String cursor : new String[]{notBase64, wrongPrefix, notANumber}) {
+            assertThatThrownBy(() -> paginationSupport.decodeCursor(cursor))
+                    .isExactlyInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String base64(String value) {
+        return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+package com.smartinventory.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A result loaded while an invalidation happens is never left in the cache.
+ */
+class ReportCacheTest {
+
+    private static final Set<ReportDataChangedEvent.Kind> SALES = Set.of(ReportDataChangedEvent.Kind.SALES);
+
+    private final ReportCache cache = new ReportCache(60_000, 100);
+
+    @Test
+    void resultLoadedDuringAnInvalidationIsNotStored() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> get(() -> {
+                loading.countDown();
+                await(invalidated);
+                return "before write";
+            }));
+
+            await(loading);
+            cache.invalidateAll();
+            invalidated.countDown();
+
+            assertThat(stale.get(10, TimeUnit.SECONDS)).isEqualTo("before write");
+            assertThat(get(() -> "after write")).isEqualTo("after write");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentLoadsAndInvalidationsNeverKeepAStaleResult() throws Exception {
+        // One entry, so every store also runs an eviction
+        ReportCache small = new ReportCache(60_000, 1);
+
+        // The "database": a write bumps data, then invalidates and counts as committed
+        AtomicLong data = new AtomicLong();
+        AtomicLong committed = new AtomicLong();
+        AtomicLong staleResults = new AtomicLong();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                String params = "reader-" + i;
+                readers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        long floor = committed.get();
+                        long value = small.get("summary", null, null, params, SALES, false, data::get);
+                        if (value < floor) {
+                            staleResults.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    long written = data.incrementAndGet();
+                    small.invalidateAll();
+                    committed.set(written);
+                }
+                writing.set(false);
+            });
+
+            writer.get(1, TimeUnit.MINUTES);
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(staleResults.get()).isZero();
+    }
+
+    private <T> T get(Supplier<T> loader) {
+        return cache.get("summary", null, null, "", SALES, false, loader);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
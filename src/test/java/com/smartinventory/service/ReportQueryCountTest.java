@@ -0,0 +1,103 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.model.Category;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.model.Supplier;
+import com.smartinventory.repository.CategoryRepository;
+import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.repository.SupplierRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each report runs a fixed set of aggregate queries: adding products,
+ * categories, suppliers and sales does not add statements.
+ */
+class ReportQueryCountTest extends SqliteIntegrationTest {
+
+    // Partial first day, so the edge-day queries of getSalesTotals run too
+    private static final LocalDateTime START = LocalDateTime.now().minusDays(10).withHour(13);
+    private static final LocalDateTime END = LocalDateTime.now();
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Test
+    void reportStatementsDoNotGrowWithData() {
+        addData(1);
+        Map<String, Integer> before = statementsPerReport();
+
+        addData(10);
+        Map<String, Integer> after = statementsPerReport();
+
+        assertThat(after).isEqualTo(before);
+        assertThat(after.values()).allSatisfy(count -> assertThat(count).isBetween(1, 6));
+    }
+
+    private Map<String, Integer> statementsPerReport() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("summary", count(() -> reportService.getSummaryMetrics(START, END)));
+        counts.put("sales-trend", count(() -> reportService.getSalesTrend(30)));
+        counts.put("product-performance", count(() -> reportService.getProductPerformance(START, END)));
+        counts.put("category-performance", count(() -> reportService.getCategoryPerformance(START, END)));
+        counts.put("supplier-performance", count(() -> reportService.getSupplierPerformance(START, END)));
+        counts.put("stock-status", count(() -> reportService.getStockStatus()));
+        counts.put("inventory-stats", count(() -> reportService.getInventoryStats(START, END)));
+        counts.put("recommendations", count(() -> reportService.getRecommendations()));
+        return counts;
+    }
+
+    private int count(Runnable report) {
+        return recordStatements(report).getQueryCount();
+    }
+
+    /**
+     * One category and supplier per group, three products each, one paid sale of all three
+     */
+    private void addData(int groups) {
+        for (int g = 0; g < groups; g++) {
+            String suffix = UUID.randomUUID().toString();
+            Category category = categoryRepository.save(new Category("Report " + suffix, null));
+            Supplier supplier = supplierRepository.save(new Supplier("Report " + suffix, null, null, null, null));
+
+            Sale sale = new Sale();
+            sale.setStatus("PAID");
+            sale.setPaymentMethod("CASH");
+            for (int p = 0; p < 3; p++) {
+                String sku = "REPORT-" + p + "-" + suffix;
+                Product product = new Product("Report " + sku, null, null, sku, 1.1, 2.2);
+                product.setCategory(category);
+                product.setSupplier(supplier);
+                product = productRepository.save(product);
+                stockService.addStock(product.getId(), 10, "Initial stock", null);
+                sale.getItems().add(new SaleItem(product, 2, 2.2));
+            }
+            saleService.createSale(sale);
+        }
+    }
+}
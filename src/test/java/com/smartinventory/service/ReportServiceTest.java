@@ -0,0 +1,200 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.dto.report.CategoryPerformanceDTO;
+import com.smartinventory.dto.report.InventoryStatsDTO;
+import com.smartinventory.dto.report.ProductPerformanceDTO;
+import com.smartinventory.dto.report.SummaryMetricsDTO;
+import com.smartinventory.model.Category;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.repository.SaleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Report builders aggregate long cents and only convert to BigDecimal for the
+ * DTOs, so sums of prices like 0.10 stay exact. Cost uses the unit cost
+ * captured on each item and falls back to the product's cost price. Paid
+ * sales count the same whatever the case of the status they were sent with.
+ */
+class ReportServiceTest extends SqliteIntegrationTest {
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void summaryOfManyTenCentLinesIsExact() {
+        // 1000 lines of 0.10 sold at a cost of 0.07, one row per line
+        SaleItem item = new SaleItem(product(1L, 0.07, 0.10), 1, 0.10);
+        item.setUnitCost(0.07);
+        List<ReportService.ProductTotals> totals = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            totals.add(totals(1L, null, 1, item.getSubtotalCents(), item.getUnitCostCents(), 1));
+        }
+
+        SummaryMetricsDTO summary = ReportService.buildSummaryMetrics(totals, 1000, 1);
+
+        assertThat(summary.getTotalRevenue()).isEqualTo(new BigDecimal("100.00"));
+        assertThat(summary.getTotalProfit()).isEqualTo(new BigDecimal("30.00"));
+        assertThat(summary.getProfitMarginPercent()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void performanceSumsRowsPerProductAndCategory() {
+        Category category = new Category("Drinks", null);
+        category.setId(7L);
+        Product cola = product(1L, 0.20, 0.30);
+        Product water = product(2L, 0.10, 0.10);
+
+        // Rollup row plus edge-day rows for the same product
+        List<ReportService.ProductTotals> totals = List.of(
+                totals(1L, 7L, 3, 90, 60, 3),
+                totals(1L, 7L, 7, 210, 140, 7),
+                totals(2L, 7L, 1, 10, 10, 1)
+        );
+
+        List<ProductPerformanceDTO> products = ReportService.buildProductPerformance(totals, List.of(cola, water));
+        List<CategoryPerformanceDTO> categories = ReportService.buildCategoryPerformance(totals, List.of(category));
+
+        ProductPerformanceDTO colaPerformance = products.get(0);
+        assertThat(colaPerformance.getQuantity()).isEqualTo(10);
+        assertThat(colaPerformance.getRevenue()).isEqualTo(new BigDecimal("3.00"));
+        assertThat(colaPerformance.getCost()).isEqualTo(new BigDecimal("2.00"));
+        assertThat(colaPerformance.getProfit()).isEqualTo(new BigDecimal("1.00"));
+        assertThat(products.get(1).getProfit()).isEqualTo(new BigDecimal("0.00"));
+
+        assertThat(categories).hasSize(1);
+        assertThat(categories.get(0).getRevenue()).isEqualTo(new BigDecimal("3.10"));
+        assertThat(categories.get(0).getCost()).isEqualTo(new BigDecimal("2.10"));
+    }
+
+    @Test
+    void moneyReachesTheDtosWithTwoDecimals() {
+        List<ReportService.ProductTotals> totals = List.of(totals(1L, null, 1, 5, 0, 1));
+
+        SummaryMetricsDTO summary = ReportService.buildSummaryMetrics(totals, 1, 1);
+        InventoryStatsDTO stats = ReportService.buildInventoryStats(4L, 1L, List.of(product(1L, 0.10, 0.15)), totals);
+
+        assertThat(summary.getTotalRevenue()).isEqualTo(new BigDecimal("0.05"));
+        assertThat(summary.getTotalRevenue().scale()).isEqualTo(2);
+        assertThat(summary.getRoiPercent()).isEqualTo(BigDecimal.ZERO);
+        assertThat(stats.getTotalInventoryValue()).isEqualTo(new BigDecimal("0.01"));
+        assertThat(stats.getAverageProfitMargin()).isEqualByComparingTo("50");
+        assertThat(stats.getTotalItemsSold()).isEqualTo(1);
+    }
+
+    @Test
+    void costFallsBackToProductCostForItemsWithoutUnitCost() {
+        String sku = "REPORT-" + UUID.randomUUID();
+        Product product = productRepository.save(new Product("Report " + sku, null, null, sku, 0.70, 1.10));
+        stockService.addStock(product.getId(), 10, "Initial stock", null);
+
+        // Pending sale 10 days ago, paid after one item lost its unit cost and the cost price changed
+        LocalDate day = LocalDate.now().minusDays(10);
+        Sale sale = new Sale();
+        sale.setStatus("PENDING");
+        sale.setPaymentMethod("CASH");
+        sale.setSaleDate(day.atTime(12, 0));
+        sale.getItems().add(new SaleItem(product, 3, 1.10));
+        sale.getItems().add(new SaleItem(product, 2, 1.10));
+        sale = saleService.createSale(sale);
+
+        Long legacyItemId = sale.getItems().get(1).getId();
+        new JdbcTemplate(dataSource).update(
+                "UPDATE sale_item SET unit_cost = NULL, unit_cost_cents = NULL WHERE id = ?", legacyItemId);
+        product = productRepository.findById(product.getId()).orElseThrow();
+        product.setCostPrice(0.90);
+        productRepository.save(product);
+        saleService.updateSaleStatus(sale.getId(), "PAID");
+
+        // 3 * 0.70 captured + 2 * 0.90 fallback, from the rollup and from the raw items
+        ProductPerformanceDTO wholeDay = performance(product, day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        ProductPerformanceDTO partialDay = performance(product, day.atTime(11, 0), day.atTime(13, 0));
+
+        for (ProductPerformanceDTO performance : List.of(wholeDay, partialDay)) {
+            assertThat(performance.getQuantity()).isEqualTo(5);
+            assertThat(performance.getRevenue()).isEqualTo(new BigDecimal("5.50"));
+            assertThat(performance.getCost()).isEqualTo(new BigDecimal("3.90"));
+        }
+    }
+
+    @Test
+    void lowerCasePaidSaleCountsInRollupAndRawTotals() {
+        String sku = "REPORT-" + UUID.randomUUID();
+        Product product = productRepository.save(new Product("Report " + sku, null, null, sku, 0.50, 1.00));
+        stockService.addStock(product.getId(), 10, "Initial stock", null);
+
+        LocalDate day = LocalDate.now().minusDays(20);
+        Sale sale = new Sale();
+        sale.setStatus("pending");
+        sale.setPaymentMethod("CASH");
+        sale.setSaleDate(day.atTime(12, 0));
+        sale.getItems().add(new SaleItem(product, 4, 1.00));
+        sale = saleService.createSale(sale);
+
+        long paidBefore = saleRepository.countPaidSalesBetween(day.atTime(11, 0), day.atTime(13, 0));
+        saleService.updateSaleStatus(sale.getId(), "paid");
+
+        assertThat(saleService.getSaleById(sale.getId()).getStatus()).isEqualTo("PAID");
+        assertThat(saleRepository.countPaidSalesBetween(day.atTime(11, 0), day.atTime(13, 0)))
+                .isEqualTo(paidBefore + 1);
+
+        ProductPerformanceDTO wholeDay = performance(product, day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        ProductPerformanceDTO partialDay = performance(product, day.atTime(11, 0), day.atTime(13, 0));
+
+        for (ProductPerformanceDTO performance : List.of(wholeDay, partialDay)) {
+            assertThat(performance.getQuantity()).isEqualTo(4);
+            assertThat(performance.getRevenue()).isEqualTo(new BigDecimal("4.00"));
+            assertThat(performance.getCost()).isEqualTo(new BigDecimal("2.00"));
+        }
+    }
+
+    private ProductPerformanceDTO performance(Product product, LocalDateTime start, LocalDateTime end) {
+        return ReportService.buildProductPerformance(reportService.getSalesTotals(start, end), List.of(product)).get(0);
+    }
+
+    private static Product product(Long id, double costPrice, double sellingPrice) {
+        Product product = new Product("Product " + id, null, null, "SKU-" + id, costPrice, sellingPrice);
+        product.setId(id);
+        return product;
+    }
+
+    /**
+     * Row as returned by the totals queries
+     */
+    private static ReportService.ProductTotals totals(Long productId, Long categoryId, long quantity,
+                                                      long revenueCents, long costCents, long lineCount) {
+        return new ReportService.ProductTotals(
+                new Object[]{productId, categoryId, null, quantity, revenueCents, costCents, lineCount});
+    }
+}
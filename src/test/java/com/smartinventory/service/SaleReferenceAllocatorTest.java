@@ -0,0 +1,20 @@
+package com.smartinventory.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SaleReferenceAllocatorTest {
+
+    @Test
+    void generatedNamespaceIsSaleFollowedByDigits() {
+        assertThat(SaleReferenceAllocator.isGeneratedReference("SALE-000123")).isTrue();
+        assertThat(SaleReferenceAllocator.isGeneratedReference("SALE-1234")).isTrue();
+
+        assertThat(SaleReferenceAllocator.isGeneratedReference(null)).isFalse();
+        assertThat(SaleReferenceAllocator.isGeneratedReference("SALE-")).isFalse();
+        assertThat(SaleReferenceAllocator.isGeneratedReference("SALE-12A")).isFalse();
+        assertThat(SaleReferenceAllocator.isGeneratedReference("INV-1234")).isFalse();
+        assertThat(SaleReferenceAllocator.isGeneratedReference("POS-SALE-1234")).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.config.RequestQueryStats;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Status changes and deletes load a sale with its items and products in one
+ * query (findWithItemsById) and run no other SELECT, however many items the
+ * sale has. Only the writes (stock movement, on_hand and rollup per item)
+ * grow with it.
+ */
+class SaleWriteQueryCountTest extends SqliteIntegrationTest {
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void payingASaleRunsTheSameSelectsForOneOrTwentyItems() {
+        Long oneItemSale = createSale(1);
+        Long twentyItemSale = createSale(20);
+
+        long oneItem = selects(recordStatements(() -> saleService.updateSaleStatus(oneItemSale, "PAID")));
+        long twentyItems = selects(recordStatements(() -> saleService.updateSaleStatus(twentyItemSale, "PAID")));
+
+        assertThat(oneItem).isEqualTo(1);
+        assertThat(twentyItems).isEqualTo(1);
+    }
+
+    @Test
+    void cancellingAPaidSaleRunsTheSameSelectsForOneOrTwentyItems() {
+        Long oneItemSale = createPaidSale(1);
+        Long twentyItemSale = createPaidSale(20);
+
+        long oneItem = selects(recordStatements(() -> saleService.updateSaleStatus(oneItemSale, "CANCELLED")));
+        long twentyItems = selects(recordStatements(() -> saleService.updateSaleStatus(twentyItemSale, "CANCELLED")));
+
+        assertThat(oneItem).isEqualTo(1);
+        assertThat(twentyItems).isEqualTo(1);
+    }
+
+    @Test
+    void deletingAPaidSaleRunsTheSameSelectsForOneOrTwentyItems() {
+        Long oneItemSale = createPaidSale(1);
+        Long twentyItemSale = createPaidSale(20);
+
+        long oneItem = selects(recordStatements(() -> saleService.deleteSale(oneItemSale)));
+        long twentyItems = selects(recordStatements(() -> saleService.deleteSale(twentyItemSale)));
+
+        assertThat(oneItem).isEqualTo(1);
+        assertThat(twentyItems).isEqualTo(1);
+    }
+
+    /**
+     * Pending sale with one item per product, each product with enough stock
+     */
+    private Long createSale(int items) {
+        Sale sale = new Sale();
+        sale.setStatus("PENDING");
+        sale.setPaymentMethod("CASH");
+        for (int i = 0; i < items; i++) {
+            String sku = "WRITE-" + UUID.randomUUID();
+            Product product = productRepository.save(new Product("Write " + sku, null, null, sku, 1.0, 2.0));
+            stockService.addStock(product.getId(), 10, "Initial stock", null);
+            sale.getItems().add(new SaleItem(product, 2, 2.0));
+        }
+        return saleService.createSale(sale).getId();
+    }
+
+    private Long createPaidSale(int items) {
+        Long id = createSale(items);
+        saleService.updateSaleStatus(id, "PAID");
+        return id;
+    }
+
+    /**
+     * SELECT statements, not counting the id read back after each insert
+     */
+    private static long selects(RequestQueryStats stats) {
+        return stats.getShapes().stream()
+                .filter(shape -> shape.getSql().regionMatches(true, 0, "select", 0, 6))
+                .filter(shape -> !shape.getSql().contains("last_insert_rowid()"))
+                .mapToLong(RequestQueryStats.Shape::getCount)
+                .sum();
+    }
+}
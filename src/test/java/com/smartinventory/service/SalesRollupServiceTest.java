@@ -0,0 +1,70 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.model.Product;
+import com.smartinventory.model.Sale;
+import com.smartinventory.model.SaleItem;
+import com.smartinventory.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Recording or reversing a sale announces one SALES change, however many
+ * items it has.
+ */
+@RecordApplicationEvents
+class SalesRollupServiceTest extends SqliteIntegrationTest {
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void payingAndCancellingASaleOfTwentyItemsPublishesOneSalesChangeEach() {
+        Long saleId = createSale(20);
+
+        events.clear();
+        saleService.updateSaleStatus(saleId, "PAID");
+        assertThat(salesChanges()).isEqualTo(1);
+
+        events.clear();
+        saleService.updateSaleStatus(saleId, "CANCELLED");
+        assertThat(salesChanges()).isEqualTo(1);
+    }
+
+    private long salesChanges() {
+        return events.stream(ReportDataChangedEvent.class)
+                .filter(event -> event.getKind() == ReportDataChangedEvent.Kind.SALES)
+                .count();
+    }
+
+    /**
+     * Pending sale with one item per product, each product with enough stock
+     */
+    private Long createSale(int items) {
+        Sale sale = new Sale();
+        sale.setStatus("PENDING");
+        sale.setPaymentMethod("CASH");
+        for (int i = 0; i < items; i++) {
+            String sku = "ROLLUP-" + UUID.randomUUID();
+            Product product = productRepository.save(new Product("Rollup " + sku, null, null, sku, 1.0, 2.0));
+            stockService.addStock(product.getId(), 10, "Initial stock", null);
+            sale.getItems().add(new SaleItem(product, 2, 2.0));
+        }
+        return saleService.createSale(sale).getId();
+    }
+}
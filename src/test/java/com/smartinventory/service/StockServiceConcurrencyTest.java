@@ -0,0 +1,147 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.model.Product;
+import com.smartinventory.repository.ProductRepository;
+import com.smartinventory.repository.StockRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent StockService.removeStock: 64 writers racing for the same product
+ * never sell more than is on hand, and on_hand always equals the stock ledger.
+ */
+class StockServiceConcurrencyTest extends SqliteIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockServiceConcurrencyTest.class);
+
+    private static final int WRITERS = 64;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Test
+    void concurrentRemovalsOfOneProductNeverOversell() throws InterruptedException {
+        int initialStock = 100;
+        int attemptsPerWriter = 4;
+        Long productId = createProduct(initialStock);
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+
+        long nanos = race(WRITERS, writer -> {
+            for (int attempt = 0; attempt < attemptsPerWriter; attempt++) {
+                try {
+                    stockService.removeStock(productId, 1, "Stress test", "STRESS-" + writer);
+                    sold.incrementAndGet();
+                } catch (RuntimeException e) {
+                    if (e.getMessage() != null && e.getMessage().startsWith("Insufficient stock")) {
+                        rejected.incrementAndGet();
+                    } else {
+                        synchronized (unexpected) {
+                            unexpected.add(e);
+                        }
+                    }
+                }
+            }
+        });
+        report("same product", WRITERS * attemptsPerWriter, nanos);
+
+        assertThat(unexpected).isEmpty();
+        assertThat(sold.get()).isEqualTo(initialStock);
+        assertThat(rejected.get()).isEqualTo(WRITERS * attemptsPerWriter - initialStock);
+        assertThat(productRepository.findOnHandById(productId)).contains(0);
+        assertThat(stockRepository.calculateTotalStock(productId)).isZero();
+    }
+
+    @Test
+    void concurrentRemovalsOfDifferentProductsKeepEveryBalance() throws InterruptedException {
+        int removalsPerWriter = 20;
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            productIds.add(createProduct(removalsPerWriter));
+        }
+
+        long nanos = race(WRITERS, writer -> {
+            for (int i = 0; i < removalsPerWriter; i++) {
+                stockService.removeStock(productIds.get(writer), 1, "Stress test", "STRESS-" + writer);
+            }
+        });
+        report("one product per writer", WRITERS * removalsPerWriter, nanos);
+
+        for (Long productId : productIds) {
+            assertThat(productRepository.findOnHandById(productId)).contains(0);
+            assertThat(stockRepository.calculateTotalStock(productId)).isZero();
+        }
+    }
+
+    private Long createProduct(int initialStock) {
+        String sku = "STRESS-" + UUID.randomUUID();
+        Product product = productRepository.save(new Product("Stress " + sku, null, null, sku, 1.0, 2.0));
+        stockService.addStock(product.getId(), initialStock, "Initial stock", null);
+        return product.getId();
+    }
+
+    /**
+     * Start all writers at once and wait for them
+     *
+     * @return elapsed nanoseconds
+     */
+    private long race(int writers, Writer body) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            int writer = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    body.run(writer);
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - begin;
+
+        assertThat(failures).isEmpty();
+        return elapsed;
+    }
+
+    private static void report(String scenario, int operations, long nanos) {
+        log.debug("removeStock, {} writers, {}: {} calls in {} ms",
+                WRITERS, scenario, operations, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void run(int writer) throws Exception;
+    }
+}
@@ -0,0 +1,72 @@
+package com.smartinventory.service;
+
+import com.smartinventory.SqliteIntegrationTest;
+import com.smartinventory.model.User;
+import com.smartinventory.repository.AuthRepository;
+import com.smartinventory.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revocations survive a restart: a fresh cache loaded from the database still
+ * rejects a token revoked before the restart.
+ */
+class TokenBlacklistServiceTest extends SqliteIntegrationTest {
+
+    @Autowired
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void revokedTokenIsStillBlacklistedAfterRestart() {
+        String revoked = login();
+        String active = login();
+        assertThat(tokenBlacklistService.revokeToken(revoked)).isTrue();
+
+        // Same database, new instance with an empty cache
+        TokenBlacklistService restarted = new TokenBlacklistService(
+                authRepository, jwtService, new RevokedTokenCache(1000, 0.01));
+        restarted.loadRevokedTokens();
+
+        assertThat(restarted.isTokenBlacklisted(revoked)).isTrue();
+        assertThat(restarted.isTokenBlacklisted(active)).isFalse();
+    }
+
+    @Test
+    void expiryIsComparedAsTimestamp() {
+        String token = login();
+        User user = userRepository.findById(jwtService.extractUserId(token)).orElseThrow();
+        assertThat(tokenBlacklistService.isTokenValid(token)).isTrue();
+        assertThat(tokenBlacklistService.getActiveSessionCount(user.getId())).isEqualTo(1);
+
+        tokenBlacklistService.revokeAllUserTokens(user.getId());
+
+        assertThat(tokenBlacklistService.isTokenValid(token)).isFalse();
+        assertThat(tokenBlacklistService.isTokenBlacklisted(token)).isTrue();
+        assertThat(authRepository.findRevokedUnexpiredTokens(LocalDateTime.now()))
+                .anyMatch(row -> Arrays.equals((byte[]) row[0], jwtService.extractTokenHash(token)));
+    }
+
+    private String login() {
+        String username = "token-" + UUID.randomUUID();
+        User user = userRepository.save(new User(username, username + "@test.local", "secret", "USER"));
+        String token = jwtService.generateToken(user);
+        tokenBlacklistService.storeToken(user, token, new MockHttpServletRequest());
+        return token;
+    }
+}